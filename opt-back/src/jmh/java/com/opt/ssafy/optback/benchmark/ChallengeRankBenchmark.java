@@ -0,0 +1,78 @@
+package com.opt.ssafy.optback.benchmark;
+
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeRankCalculator;
+import com.opt.ssafy.optback.domain.challenge.entity.ChallengeRecord;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 챌린지 순위 계산: 기존 방식(박싱 HashMap + 정렬 + indexOf) vs ChallengeRankCalculator
+@State(Scope.Benchmark)
+public class ChallengeRankBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int recordCount;
+
+    @Param({"TEAM", "NORMAL"})
+    private String challengeType;
+
+    private List<ChallengeRecord> records;
+    private int memberId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        // 멤버 한 명당 평균 10개의 기록
+        int members = Math.max(recordCount / 10, 1);
+        records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            records.add(ChallengeRecord.builder()
+                    .memberId(random.nextInt(members) + 1)
+                    .count(random.nextInt(1000))
+                    .build());
+        }
+        memberId = records.get(random.nextInt(recordCount)).getMemberId();
+    }
+
+    @Benchmark
+    public int legacy() {
+        Map<Integer, Double> memberContributionMap = new HashMap<>();
+        for (ChallengeRecord cr : records) {
+            int id = cr.getMemberId();
+            Double count = cr.getCount() != null ? cr.getCount().doubleValue() : null;
+            Double duration = cr.getDuration() != null ? cr.getDuration().doubleValue() : null;
+            Double distance = cr.getDistance() != null ? cr.getDistance().doubleValue() : null;
+
+            if ("TEAM".equals(challengeType)) {
+                double totalValue = (count != null ? count : 0.0) +
+                        (duration != null ? duration : 0.0) +
+                        (distance != null ? distance : 0.0);
+                memberContributionMap.put(id, memberContributionMap.getOrDefault(id, 0.0) + totalValue);
+            } else {
+                double bestValue = (count != null) ? count : (duration != null) ? duration
+                        : (distance != null) ? distance : 0.0;
+                if (!memberContributionMap.containsKey(id) || memberContributionMap.get(id) < bestValue) {
+                    memberContributionMap.put(id, bestValue);
+                }
+            }
+        }
+
+        List<Double> contributions = new ArrayList<>(memberContributionMap.values());
+        Double myBestValue = memberContributionMap.getOrDefault(memberId, 0.0);
+        contributions.sort(Collections.reverseOrder());
+        return contributions.indexOf(myBestValue) + 1;
+    }
+
+    @Benchmark
+    public int primitive() {
+        return ChallengeRankCalculator.calculateRank(challengeType, memberId, records);
+    }
+}
@@ -0,0 +1,79 @@
+package com.opt.ssafy.optback.benchmark;
+
+import com.opt.ssafy.optback.config.JwtChannelInterceptor;
+import com.opt.ssafy.optback.domain.auth.application.JwtProvider;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// STOMP SEND 프레임 처리량: 프레임마다 JWT 검증(이전 방식) vs CONNECT 때 세션에 둔 인증 정보 재사용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtChannelInterceptorBenchmark {
+
+    private static final String SECRET_KEY = Encoders.BASE64.encode(
+            "opt-test-secret-key-for-stomp-interceptor".getBytes(StandardCharsets.UTF_8));
+
+    private JwtChannelInterceptor jwtChannelInterceptor;
+    private Message<?> everyFrameVerified;
+    private Message<?> sessionCached;
+
+    @Setup
+    public void setUp() {
+        JwtProvider jwtProvider = new JwtProvider(SECRET_KEY);
+        jwtChannelInterceptor = new JwtChannelInterceptor(jwtProvider);
+        String token = jwtProvider.generateAccessToken(new UsernamePasswordAuthenticationToken("1", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        // 세션 속성이 없으면 CONNECT 때 저장할 곳이 없어 프레임마다 토큰을 검증한다 (이전 방식과 같은 경로)
+        everyFrameVerified = frame(StompCommand.SEND, null, token);
+
+        Map<String, Object> session = new HashMap<>();
+        jwtChannelInterceptor.preSend(frame(StompCommand.CONNECT, session, token), null);
+        sessionCached = frame(StompCommand.SEND, session, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Message<?> everyFrameVerified() {
+        return jwtChannelInterceptor.preSend(everyFrameVerified, null);
+    }
+
+    @Benchmark
+    public Message<?> sessionCached() {
+        return jwtChannelInterceptor.preSend(sessionCached, null);
+    }
+
+    private Message<?> frame(StompCommand command, Map<String, Object> session, String jwt) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionAttributes(session);
+        if (jwt != null) {
+            accessor.setNativeHeader("Authorization", "Bearer " + jwt);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,192 @@
+package com.opt.ssafy.optback.benchmark;
+
+import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import com.opt.ssafy.optback.domain.member.entity.Member;
+import com.opt.ssafy.optback.domain.member.entity.Role;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Specification.TrainerSpecification;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.Random;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 추천순 한 페이지의 트레이너 id 조회 (TrainerSpecification.orderBy의 SQL 점수 + count), 트레이너 1k / 10k명
+// 임베디드 H2에 JPA만 띄워 실제 쿼리를 실행하므로, queries 값이 페이지당 SQL 수이고 시간은 DB 실행을 포함한 지연 시간이다
+@State(Scope.Benchmark)
+public class TrainerRecommendationQueryBenchmark {
+
+    private static final double MY_LATITUDE = 37.5013;
+    private static final double MY_LONGITUDE = 127.0396;
+    private static final int GYM_COUNT = 500;
+    private static final int PAGE_SIZE = 20;
+    // 로그인 회원 관심사: 1, 2, 12번
+    private static final long MY_INTEREST_MASK = 0b11L | (1L << 11);
+
+    @Param({"1000", "10000"})
+    private int trainerCount;
+
+    @Param({"false", "true"})
+    private boolean loggedIn;
+
+    private AnnotationConfigApplicationContext context;
+    private TrainerDetailRepository trainerDetailRepository;
+    private Statistics statistics;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class QueryCounter {
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            queries = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(BenchmarkJpaConfig.class);
+        trainerDetailRepository = context.getBean(TrainerDetailRepository.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        EntityManager em = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> insertTrainers(em));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Integer> recommendationPage(QueryCounter counter) {
+        long before = statistics.getPrepareStatementCount();
+        Page<Integer> page = trainerDetailRepository.findBy(
+                        TrainerSpecification.orderBy("recommendation", MY_LATITUDE, MY_LONGITUDE,
+                                loggedIn ? MY_INTEREST_MASK : 0L),
+                        query -> query.page(PageRequest.of(0, PAGE_SIZE)))
+                .map(TrainerDetail::getTrainerId);
+        counter.queries += statistics.getPrepareStatementCount() - before;
+        return page;
+    }
+
+    private void insertTrainers(EntityManager em) {
+        Random random = new Random(42);
+        for (int id = 1; id <= GYM_COUNT; id++) {
+            em.createNativeQuery("""
+                            INSERT INTO gym (id, phone_number, full_address, road_address, gym_name, latitude, longitude)
+                            VALUES (?1, '02-000-0000', '서울', '서울', ?2, ?3, ?4)
+                            """)
+                    .setParameter(1, id)
+                    .setParameter(2, "gym" + id)
+                    .setParameter(3, 37.4 + random.nextDouble() * 0.2)
+                    .setParameter(4, 126.9 + random.nextDouble() * 0.2)
+                    .executeUpdate();
+        }
+
+        for (int i = 1; i <= trainerCount; i++) {
+            Member member = Member.builder()
+                    .name("트레이너" + i)
+                    .nickname("t" + i)
+                    .email("t" + i + "@opt.com")
+                    .role(Role.ROLE_TRAINER)
+                    .build();
+            em.persist(member);
+            em.persist(TrainerDetail.builder()
+                    .trainerId(member.getId())
+                    .member(member)
+                    .gym(em.getReference(Gym.class, random.nextInt(GYM_COUNT) + 1))
+                    .isOneDayAvailable(random.nextBoolean())
+                    .build());
+            if (i % 500 == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.flush();
+        em.clear();
+
+        // 트레이너마다 관심사 두 개, 리뷰 0~49개
+        em.createNativeQuery("""
+                        UPDATE member SET interest_mask =
+                            LSHIFT(CAST(1 AS BIGINT), MOD(id, 10)) + LSHIFT(CAST(1 AS BIGINT), 10 + MOD(id * 7, 10))
+                        """)
+                .executeUpdate();
+        em.createNativeQuery("""
+                        INSERT INTO trainer_rating_stats (trainer_id, review_count, rate_sum, average_rating, bayesian_score)
+                        SELECT trainer_id, MOD(trainer_id * 7, 50), MOD(trainer_id * 7, 50) * 3 + MOD(trainer_id, 3),
+                               0, 0
+                        FROM trainer_detail
+                        """)
+                .executeUpdate();
+        em.createNativeQuery("""
+                        UPDATE trainer_rating_stats
+                        SET average_rating = CASE WHEN review_count > 0 THEN rate_sum * 1.0 / review_count ELSE 0 END,
+                            bayesian_score = (rate_sum + 40.0) / (review_count + 10)
+                        """)
+                .executeUpdate();
+    }
+
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = TrainerDetailRepository.class)
+    public static class BenchmarkJpaConfig {
+
+        @Bean
+        public DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .build();
+        }
+
+        @Bean
+        public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("com.opt.ssafy.optback.domain");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            // 스프링 부트와 같은 이름 규칙으로 테이블/컬럼을 만든다
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.hbm2ddl.auto", "create",
+                    "hibernate.generate_statistics", "true",
+                    "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                    "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+            return factory;
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.opt.ssafy.optback.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// bitmask 비교 함수를 JPQL/Criteria에서 쓸 수 있도록 등록 (META-INF/services로 로딩)
+// bit_match_count(a, b) → a & b 의 켜진 비트 수 (테스트용 H2는 함수 이름이 달라 따로 등록)
+public class BitwiseFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Integer> integerType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.INTEGER);
+
+        String pattern = functionContributions.getDialect() instanceof H2Dialect
+                ? "bitcount(bitand(?1, ?2))"
+                : "bit_count(?1 & ?2)";
+        functionContributions.getFunctionRegistry()
+                .registerPattern("bit_match_count", pattern, integerType);
+    }
+}
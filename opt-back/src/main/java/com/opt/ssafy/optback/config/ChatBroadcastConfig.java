@@ -0,0 +1,24 @@
+package com.opt.ssafy.optback.config;
+
+import com.opt.ssafy.optback.domain.chat.infrastructure.RedisChatBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// chat.broadcast.mode=redis: 다른 서버에서 발행한 채팅 메시지를 구독해 이 서버의 STOMP 구독자에게 전달
+@Configuration
+@ConditionalOnProperty(name = "chat.broadcast.mode", havingValue = "redis")
+public class ChatBroadcastConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatBroadcastListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                        RedisChatBroadcaster redisChatBroadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisChatBroadcaster, new ChannelTopic(RedisChatBroadcaster.CHANNEL));
+        return container;
+    }
+}
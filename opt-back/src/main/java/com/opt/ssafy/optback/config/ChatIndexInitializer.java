@@ -0,0 +1,47 @@
+package com.opt.ssafy.optback.config;
+
+import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
+import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+// 채팅 조회용 복합 인덱스, 없으면 서버 시작 시 생성
+// - 메시지 커서 조회: chat_messages (roomId, createdAt, _id)
+// - 채팅방 목록: chat_rooms (participants, lastMessageAt)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        ensureIndex(ChatMessage.class, new Index()
+                .on("roomId", Direction.ASC)
+                .on("createdAt", Direction.DESC)
+                .on("_id", Direction.DESC)
+                .named("idx_room_created_id"));
+        ensureIndex(ChatRoom.class, new Index()
+                .on("participants", Direction.ASC)
+                .on("lastMessageAt", Direction.DESC)
+                .named("idx_participants_last_message_at"));
+    }
+
+    // 같은 정의의 인덱스가 이미 있으면 아무것도 하지 않음
+    private void ensureIndex(Class<?> entityClass, Index index) {
+        try {
+            String name = mongoTemplate.indexOps(entityClass).ensureIndex(index);
+            log.info("채팅 인덱스 확인: {}", name);
+        } catch (DataAccessException e) {
+            log.warn("채팅 인덱스 생성 실패: {}", entityClass.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.opt.ssafy.optback.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+// MySQL FULLTEXT 검색 함수를 JPQL/Criteria에서 쓸 수 있도록 등록 (META-INF/services로 로딩)
+// fulltext_match(컬럼, 검색어), fulltext_match2(컬럼1, 컬럼2, 검색어) → 관련도 점수, 일치하지 않으면 0
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern("fulltext_match", "match(?1) against(?2 in boolean mode)", doubleType);
+        functionContributions.getFunctionRegistry()
+                .registerPattern("fulltext_match2", "match(?1, ?2) against(?3 in boolean mode)", doubleType);
+    }
+}
@@ -0,0 +1,67 @@
+package com.opt.ssafy.optback.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 트레이너 검색용 FULLTEXT 인덱스(한글 검색을 위해 ngram parser)가 있는지 확인
+// 있는 것이 확인된 인덱스만 MATCH로 검색하고, 확인 전이거나 없으면 LIKE로 검색한다
+// 인덱스는 서버가 만들지 않고 배포 전에 직접 생성 (큰 테이블 ALTER가 서버마다 동시에 실행되지 않도록)
+//   ALTER TABLE member ADD FULLTEXT INDEX ft_member_name (name) WITH PARSER ngram;
+//   ALTER TABLE gym ADD FULLTEXT INDEX ft_gym_address (full_address, road_address) WITH PARSER ngram;
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexStatus {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${search.fulltext.enabled:true}")
+    private boolean enabled;
+
+    private volatile boolean memberNameIndexed;
+    private volatile boolean gymAddressIndexed;
+
+    // 시작할 때와 주기적으로 확인 (서버 실행 중 인덱스를 만들거나 지운 경우)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.fulltext.check-interval-ms:300000}",
+            fixedDelayString = "${search.fulltext.check-interval-ms:300000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        memberNameIndexed = exists("member", "ft_member_name", memberNameIndexed);
+        gymAddressIndexed = exists("gym", "ft_gym_address", gymAddressIndexed);
+    }
+
+    public boolean isMemberNameIndexed() {
+        return memberNameIndexed;
+    }
+
+    public boolean isGymAddressIndexed() {
+        return gymAddressIndexed;
+    }
+
+    private boolean exists(String table, String name, boolean before) {
+        try {
+            Integer count = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                    """, Integer.class, table, name);
+            boolean exists = count != null && count > 0;
+            if (exists != before) {
+                log.info("FULLTEXT 인덱스 {}.{}: {}", table, name, exists ? "MATCH 검색 사용" : "없음, LIKE 검색 사용");
+            }
+            return exists;
+        } catch (DataAccessException e) {
+            log.warn("FULLTEXT 인덱스 확인 실패, LIKE 검색 사용: {}.{}", table, name, e);
+            return false;
+        }
+    }
+}
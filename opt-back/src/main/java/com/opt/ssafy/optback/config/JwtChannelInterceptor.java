@@ -1,7 +1,10 @@
 package com.opt.ssafy.optback.config;
 
 import com.opt.ssafy.optback.domain.auth.application.JwtProvider;
+import io.jsonwebtoken.Claims;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -20,6 +23,10 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
+    // CONNECT에서 검증한 인증 정보를 WebSocket 세션 속성에 두고 이후 프레임에서 재사용
+    private static final String SECURITY_CONTEXT_ATTRIBUTE = "jwtSecurityContext";
+    private static final String EXPIRES_AT_ATTRIBUTE = "jwtExpiresAt";
+
     private final JwtProvider jwtProvider;
 
     // 메시지 전송 전 실행 (인증된 사용자만)
@@ -32,46 +39,74 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
             return message;
         }
 
-        log.info("🟢 [WebSocket] STOMP Command: {}", accessor.getCommand());
+        log.debug("🟢 [WebSocket] STOMP Command: {}", accessor.getCommand());
+
+        StompCommand command = accessor.getCommand();
+        if (StompCommand.CONNECT.equals(command)) {
+            authenticate(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(command) || StompCommand.SEND.equals(command)) {
+            SecurityContext securityContext = cachedSecurityContext(accessor);
+            if (securityContext == null) {
+                // 세션에 인증 정보가 없거나 만료됨 → 프레임의 토큰으로 다시 검증
+                authenticate(accessor);
+            } else {
+                SecurityContextHolder.setContext(securityContext);
+                accessor.setUser(securityContext.getAuthentication());
+            }
+        }
 
-        // Authorization 헤더 체크
-        if (StompCommand.CONNECT.equals(accessor.getCommand()) ||
-                StompCommand.SUBSCRIBE.equals(accessor.getCommand()) ||
-                StompCommand.SEND.equals(accessor.getCommand())) {
+        return message;
+    }
 
-            log.info("🟢 [WebSocket] {} 요청 감지됨", accessor.getCommand());
+    // JWT 서명/만료를 검증하고 인증 정보를 세션에 저장
+    private void authenticate(StompHeaderAccessor accessor) {
+        // WebSocket 요청에서 JWT 토큰 가져오기
+        String jwtToken = extractToken(accessor);
+        if (jwtToken == null) {
+            log.error("❌ [WebSocket] Authorization 헤더가 존재하지 않음");
+            throw new RuntimeException("❌ [WebSocket] Authorization 헤더가 존재하지 않음");
+        }
 
-            // WebSocket 요청에서 JWT 토큰 가져오기
-            String jwtToken = extractToken(accessor);
-            if (jwtToken == null) {
-                log.error("❌ [WebSocket] Authorization 헤더가 존재하지 않음");
-                throw new RuntimeException("❌ [WebSocket] Authorization 헤더가 존재하지 않음");
-            }
+        // JWT 검증
+        Claims claims = jwtProvider.getVerifiedClaims(jwtToken);
+        Authentication authentication = jwtProvider.getAuthentication(claims);
 
-            // JWT 검증
-            if (!jwtProvider.validateToken(jwtToken)) {
-                log.error("❌ [WebSocket] JWT 토큰 검증 실패!");
-                throw new RuntimeException("검증되지 않은 JWT토큰");
-            }
+        // SecurityContext에 저장
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authentication);
+        SecurityContextHolder.setContext(securityContext);
 
-            Authentication authentication = jwtProvider.getAuthentication(jwtToken);
-            if (authentication == null) {
-                log.error("❌ [WebSocket] JWT에서 인증 정보를 가져오지 못했습니다.");
-                return message;
-            }
+        // WebSocket 세션에서도 인증 정보 설정
+        accessor.setUser(authentication);
 
-            // SecurityContext에 저장
-            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
-            securityContext.setAuthentication(authentication);
-            SecurityContextHolder.setContext(securityContext);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            Date expiration = claims.getExpiration();
+            sessionAttributes.put(SECURITY_CONTEXT_ATTRIBUTE, securityContext);
+            sessionAttributes.put(EXPIRES_AT_ATTRIBUTE, expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        }
 
-            // WebSocket 세션에서도 인증 정보 설정
-            accessor.setUser(authentication);
+        log.info("✅ [WebSocket] 사용자 인증 성공 (사용자명: {}, {})", authentication.getName(), accessor.getCommand());
+    }
 
-            log.info("✅ [WebSocket] 사용자 인증 성공 (사용자명: {})", authentication.getName());
+    // 세션에 저장된 인증 정보, 없거나 토큰 만료 시각이 지났으면 null
+    private SecurityContext cachedSecurityContext(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            return null;
         }
-
-        return message;
+        Object securityContext = sessionAttributes.get(SECURITY_CONTEXT_ATTRIBUTE);
+        Object expiresAt = sessionAttributes.get(EXPIRES_AT_ATTRIBUTE);
+        if (!(securityContext instanceof SecurityContext context) || !(expiresAt instanceof Long expiresAtMillis)) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= expiresAtMillis) {
+            log.info("⌛ [WebSocket] 세션의 JWT 토큰 만료 (사용자명: {})", context.getAuthentication().getName());
+            sessionAttributes.remove(SECURITY_CONTEXT_ATTRIBUTE);
+            sessionAttributes.remove(EXPIRES_AT_ATTRIBUTE);
+            return null;
+        }
+        return context;
     }
 
     private String extractToken(StompHeaderAccessor accessor) {
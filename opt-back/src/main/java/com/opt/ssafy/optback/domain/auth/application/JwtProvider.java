@@ -63,7 +63,14 @@ public class JwtProvider {
     // JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
         // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
+
+    // 이미 검증한 claim으로 Authentication 생성 (STOMP 세션처럼 한 번 검증하고 재사용할 때)
+    public Authentication getAuthentication(Claims claims) {
+        if (claims.get("auth") == null) {
+            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+        }
         // claim에서 권한 정보 가져오기 / claim : 토큰을 복호화 한 것. 유저/토큰의 정보가 들어있음
         Collection<? extends GrantedAuthority> authorities =
                 Arrays.stream(claims.get("auth").toString().split(","))
@@ -76,9 +83,14 @@ public class JwtProvider {
 
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
+        getVerifiedClaims(token);
+        return true;
+    }
+
+    // 서명과 만료를 검증하고 claim 반환
+    public Claims getVerifiedClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
         } catch (MalformedJwtException e) {
             throw new MalformedJwtException("위조된 토큰");
         } catch (ExpiredJwtException e) {
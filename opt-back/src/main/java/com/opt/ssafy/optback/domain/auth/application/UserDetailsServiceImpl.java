@@ -42,6 +42,15 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(USER_NOT_FOUND_EXCEPTION_MESSAGE));
     }
 
+    // 회원 조회 없이 인증 정보에서 id만 꺼냄, 비로그인 사용자는 null
+    public Integer getMemberIdByContextHolder() {
+        if (isAnonymous()) {
+            return null;
+        }
+        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return Integer.valueOf(userDetails.getUsername());
+    }
+
     public Authentication getAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
     }
@@ -37,5 +37,15 @@ public class AchievementAspect {
         eventPublisher.publishEvent(new ActivityEvent(member, ActivityType.CHALLENGE));
     }
 
+    // write-behind 모드로 접수된 챌린지 기록 (recordCount를 거치지 않음)
+    @AfterReturning(value = "execution(* com.opt.ssafy.optback.domain.challenge.application.ChallengeRecordIngestionQueue.enqueue(..))",
+            returning = "accepted")
+    public void afterChallengeRecordEnqueue(JoinPoint joinPoint, Object accepted) {
+        if (Boolean.TRUE.equals(accepted)) {
+            Member member = userDetailsService.getMemberByContextHolder();
+            eventPublisher.publishEvent(new ActivityEvent(member, ActivityType.CHALLENGE));
+        }
+    }
+
 
 }
@@ -1,7 +1,10 @@
 package com.opt.ssafy.optback.domain.challenge.api;
 
 import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeLeaderboardService;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeRecordIngestionQueue;
 import com.opt.ssafy.optback.domain.challenge.application.ChallengeService;
+import com.opt.ssafy.optback.domain.challenge.dto.ChallengeCursorResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ChallengeRecordRequest;
 import com.opt.ssafy.optback.domain.challenge.dto.ChallengeRecordResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ChallengeRecordWithRankResponse;
@@ -9,12 +12,16 @@ import com.opt.ssafy.optback.domain.challenge.dto.ChallengeResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ContributionResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.CreateChallengeRequest;
 import com.opt.ssafy.optback.domain.challenge.dto.JoinChallengeRequest;
+import com.opt.ssafy.optback.domain.challenge.dto.LeaderboardResponse;
+import com.opt.ssafy.optback.domain.challenge.dto.RecordIngestionStatsResponse;
 import com.opt.ssafy.optback.domain.member.entity.Member;
 import com.opt.ssafy.optback.global.dto.SuccessResponse;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -33,6 +40,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChallengeController {
 
     private final ChallengeService challengeService;
+    private final ChallengeLeaderboardService challengeLeaderboardService;
+    private final ChallengeRecordIngestionQueue challengeRecordIngestionQueue;
     private final UserDetailsServiceImpl userDetailsService;
 
     // 기존 전체 챌린지 조회
@@ -44,6 +53,33 @@ public class ChallengeController {
         return ResponseEntity.ok(challenges);
     }
 
+    // GET /challenges/ongoing?cursorDate=&cursorId=&size= - 진행중인 챌린지 (커서 페이지)
+    @GetMapping("/ongoing")
+    public ResponseEntity<ChallengeCursorResponse> getOngoingChallenges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Integer cursorId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(challengeService.getOngoingChallenges(cursorDate, cursorId, size));
+    }
+
+    // GET /challenges/ended?cursorDate=&cursorId=&size= - 종료된 챌린지 (커서 페이지)
+    @GetMapping("/ended")
+    public ResponseEntity<ChallengeCursorResponse> getEndedChallenges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Integer cursorId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(challengeService.getEndedChallenges(cursorDate, cursorId, size));
+    }
+
+    // GET /challenges/upcoming?cursorDate=&cursorId=&size= - 개최예정 챌린지 (커서 페이지)
+    @GetMapping("/upcoming")
+    public ResponseEntity<ChallengeCursorResponse> getUpcomingChallenges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorDate,
+            @RequestParam(required = false) Integer cursorId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(challengeService.getUpcomingChallenges(cursorDate, cursorId, size));
+    }
+
     // GET /challenges/{id} - 특정 챌린지 상세 조회
     @GetMapping("/{id}")
     public ResponseEntity<ChallengeResponse> getChallenge(@PathVariable int id) {
@@ -76,6 +112,22 @@ public class ChallengeController {
                 .build());
     }
 
+    // GET /challenges/{id}/leaderboard - 챌린지 랭킹 상위 목록 (페이지 단위)
+    @GetMapping("/{id}/leaderboard")
+    public ResponseEntity<Page<LeaderboardResponse>> getLeaderboard(@PathVariable int id, Pageable pageable) {
+        return ResponseEntity.ok(challengeLeaderboardService.getLeaderboard(id, pageable));
+    }
+
+    // POST /challenges/{id}/progress/rebuild - TEAM 챌린지 누적 합계 재계산 (ADMIN 전용)
+    @PostMapping("/{id}/progress/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SuccessResponse> rebuildTeamProgress(@PathVariable int id) {
+        challengeService.rebuildTeamProgress(id);
+        return ResponseEntity.ok(SuccessResponse.builder()
+                .message("챌린지 진행률이 재계산되었습니다.")
+                .build());
+    }
+
     // GET /challenges/record - 챌린지 수행 기록 조회
     @GetMapping("/record")
     @PreAuthorize("isAuthenticated()")
@@ -98,6 +150,12 @@ public class ChallengeController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<SuccessResponse> recordChallenge(@RequestBody ChallengeRecordRequest request) {
         Member member = userDetailsService.getMemberByContextHolder();
+        // write-behind 모드에서는 큐에 접수만 하고 바로 응답
+        if (challengeRecordIngestionQueue.enqueue(member.getId(), request)) {
+            return ResponseEntity.ok(SuccessResponse.builder()
+                    .message("운동 기록이 접수되었습니다.")
+                    .build());
+        }
         challengeService.recordChallenge(
                 member.getId(),
                 request.getChallengeId(),
@@ -111,6 +169,13 @@ public class ChallengeController {
     }
 
 
+    // GET /challenges/record/ingestion-stats - 기록 write-behind 큐 상태 (ADMIN 전용)
+    @GetMapping("/record/ingestion-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RecordIngestionStatsResponse> getRecordIngestionStats() {
+        return ResponseEntity.ok(challengeRecordIngestionQueue.getStats());
+    }
+
     // POST /challenges/join - 챌린지 참여
     @PostMapping("/join")
     @PreAuthorize("isAuthenticated()")
@@ -132,30 +197,30 @@ public class ChallengeController {
     }
 
 
-    // GET /challenges/created - 내(트레이너)가 생성한 챌린지 목록
+    // GET /challenges/created?page=&size= - 내(트레이너)가 생성한 챌린지 목록
     @GetMapping("/created")
     @PreAuthorize("hasRole('TRAINER')")
-    public ResponseEntity<List<ChallengeResponse>> getCreatedChallenges() {
-        return ResponseEntity.ok(challengeService.getCreatedChallenges());
+    public ResponseEntity<Page<ChallengeResponse>> getCreatedChallenges(Pageable pageable) {
+        return ResponseEntity.ok(challengeService.getCreatedChallenges(pageable));
     }
 
-    // GET /challenges/participating - 내가 참여중인 챌린지 목록
+    // GET /challenges/participating?page=&size= - 내가 참여중인 챌린지 목록
     @GetMapping("/participating")
-    public ResponseEntity<List<ChallengeResponse>> getParticipatingChallenges() {
-        return ResponseEntity.ok(challengeService.getParticipatingChallenges());
+    public ResponseEntity<Page<ChallengeResponse>> getParticipatingChallenges(Pageable pageable) {
+        return ResponseEntity.ok(challengeService.getParticipatingChallenges(pageable));
     }
 
-    // GET /challenges/applied - 내가 신청한 챌린지 목록
+    // GET /challenges/applied?page=&size= - 내가 신청한 챌린지 목록
     @GetMapping("/applied")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ChallengeResponse>> getAppliedChallenges() {
-        return ResponseEntity.ok(challengeService.getAppliedChallenges());
+    public ResponseEntity<Page<ChallengeResponse>> getAppliedChallenges(Pageable pageable) {
+        return ResponseEntity.ok(challengeService.getAppliedChallenges(pageable));
     }
 
-    // GET /challenges/past - 내가 참여했던 챌린지 목록
+    // GET /challenges/past?page=&size= - 내가 참여했던 챌린지 목록
     @GetMapping("/past")
-    public ResponseEntity<List<ChallengeResponse>> getPastChallenges() {
-        return ResponseEntity.ok(challengeService.getPastChallenges());
+    public ResponseEntity<Page<ChallengeResponse>> getPastChallenges(Pageable pageable) {
+        return ResponseEntity.ok(challengeService.getPastChallenges(pageable));
     }
 
 }
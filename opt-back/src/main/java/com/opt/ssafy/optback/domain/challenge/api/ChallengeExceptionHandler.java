@@ -1,5 +1,6 @@
 package com.opt.ssafy.optback.domain.challenge.api;
 
+import com.opt.ssafy.optback.domain.challenge.exception.ChallengeCursorException;
 import com.opt.ssafy.optback.domain.challenge.exception.ChallengeNotFoundException;
 import com.opt.ssafy.optback.domain.challenge.exception.ChallengeRecordNotFoundException;
 import com.opt.ssafy.optback.global.dto.ErrorResponse;
@@ -29,4 +30,13 @@ public class ChallengeExceptionHandler {
                 .body(errorResponse);
     }
 
+    @ExceptionHandler(ChallengeCursorException.class)
+    public ResponseEntity<ErrorResponse> handleChallengeCursorException(ChallengeCursorException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(errorResponse);
+    }
+
 }
@@ -0,0 +1,87 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.dto.ContributionResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// TEAM 챌린지 기여도 스냅샷 캐시
+// 기록이 저장되면 해당 챌린지만 무효화하고, 다음 조회에서 한 번 계산한 결과를 모든 조회자가 공유한다.
+// 다른 서버에서 저장된 기록은 무효화 신호가 오지 않으므로 TTL로 최대 지연을 제한한다.
+@Component
+public class ChallengeContributionCache {
+
+    private static final long TTL_MILLIS = 30_000L;
+
+    private final Map<Integer, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    // 같은 챌린지에 동시에 캐시 미스가 나도 계산은 한 번만 수행
+    // 맵에는 계산 중인 future만 먼저 넣고 DB 조회는 맵 잠금 밖에서 실행 (무효화나 다른 챌린지 조회를 막지 않도록)
+    public List<ContributionResponse> get(int challengeId, Supplier<List<ContributionResponse>> loader) {
+        long now = System.currentTimeMillis();
+        Snapshot created = new Snapshot(new CompletableFuture<>(), now);
+        Snapshot snapshot = snapshots.compute(challengeId, (id, current) ->
+                (current == null || current.isExpired(now)) ? created : current);
+
+        if (snapshot == created) {
+            try {
+                created.getContributions().complete(List.copyOf(loader.get()));
+            } catch (RuntimeException | Error e) {
+                snapshots.remove(challengeId, created);
+                created.getContributions().completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return snapshot.getContributions().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 기록 트랜잭션 안에서 호출되면 커밋 뒤에 무효화 (커밋 전 데이터로 다시 계산한 스냅샷이 TTL 동안 남지 않도록)
+    // 계산 중인 스냅샷도 맵에서 빠지므로, 무효화 전에 시작한 계산 결과는 이미 기다리던 조회에만 전달된다.
+    public void invalidate(int challengeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshots.remove(challengeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshots.remove(challengeId);
+            }
+        });
+    }
+
+    // 더 이상 조회되지 않는 챌린지의 만료된 스냅샷 정리
+    @Scheduled(fixedDelay = TTL_MILLIS)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        snapshots.values().removeIf(snapshot -> snapshot.isExpired(now) && snapshot.getContributions().isDone());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final CompletableFuture<List<ContributionResponse>> contributions;
+        private final long createdAt;
+
+        boolean isExpired(long now) {
+            return now - createdAt > TTL_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.dto.LeaderboardResponse;
+import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
+import com.opt.ssafy.optback.domain.challenge.exception.ChallengeNotFoundException;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
+import com.opt.ssafy.optback.domain.member.entity.Member;
+import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 챌린지별 랭킹을 Redis ZSET(challenge:leaderboard:{challengeId})으로 관리
+// TEAM은 기록 합계, NORMAL/SURVIVAL은 최고 기록을 점수로 사용하며, Redis를 사용할 수 없으면 MySQL 집계로 대체
+// 점수는 기록 트랜잭션이 커밋된 뒤에만 반영한다. 재구성 중(:rebuilding)이거나 커밋 전후로 재구성이 시작됐으면(:epoch)
+// 점수를 더하지 않고 :dirty로 표시해, 재구성이 MySQL을 다시 읽도록 한다 (증가분이 빠지거나 두 번 더해지지 않도록).
+// :ready는 재구성이 끝났다는 표시로, 기록이 없는 챌린지도 조회할 때마다 다시 만들지 않는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeLeaderboardService {
+
+    private static final String KEY_PREFIX = "challenge:leaderboard:";
+    private static final Duration REBUILD_MARKER_TTL = Duration.ofSeconds(30);
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    // KEYS: 랭킹, ready, rebuilding, epoch, dirty / ARGV: 멤버, 점수, incr|gt, 커밋 전 epoch('' 이면 확인하지 않음)
+    // 반환: 1 반영, 0 재구성 중이라 dirty 표시, -1 랭킹이 준비되지 않음
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1
+                    or (ARGV[4] ~= '' and (redis.call('GET', KEYS[4]) or '0') ~= ARGV[4]) then
+                redis.call('SET', KEYS[5], '1')
+                redis.call('DEL', KEYS[2])
+                return 0
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return -1
+            end
+            if ARGV[3] == 'incr' then
+                redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+            else
+                redis.call('ZADD', KEYS[1], 'GT', ARGV[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: ready, rebuilding, dirty / 재구성 중 들어온 기록이 없을 때만 ready 표시
+    private static final RedisScript<Long> COMPLETE_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                return 0
+            end
+            redis.call('SET', KEYS[1], '1')
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final MemberRepository memberRepository;
+
+    // Redis 장애로 기록을 반영하지 못한 챌린지, 다음 접근 시 MySQL 기준으로 다시 만든다
+    private final Set<Integer> staleChallengeIds = ConcurrentHashMap.newKeySet();
+
+    // 기록 저장 후 호출: TEAM은 증가분을 더하고, NORMAL/SURVIVAL은 기존 점수보다 클 때만 갱신
+    // 트랜잭션 안이면 커밋된 뒤에 반영하고, 롤백되면 반영하지 않는다
+    public void recordScore(Challenge challenge, int memberId, int delta, Integer value) {
+        boolean team = "TEAM".equals(challenge.getType());
+        if (team ? delta == 0 : value == null) {
+            return;
+        }
+        double score = team ? delta : value;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyScore(challenge, memberId, score, team, "");
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private String epoch = "";
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                try {
+                    String current = stringRedisTemplate.opsForValue().get(epochKey(challenge.getId()));
+                    epoch = current == null ? "0" : current;
+                } catch (DataAccessException e) {
+                    log.warn("챌린지 {} 랭킹 epoch 조회 실패", challenge.getId(), e);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                applyScore(challenge, memberId, score, team, epoch);
+            }
+        });
+    }
+
+    private void applyScore(Challenge challenge, int memberId, double score, boolean team, String epoch) {
+        int challengeId = challenge.getId();
+        try {
+            if (staleChallengeIds.contains(challengeId)) {
+                rebuild(challenge);
+                return;
+            }
+            Long result = stringRedisTemplate.execute(RECORD_SCRIPT,
+                    List.of(key(challengeId), readyKey(challengeId), rebuildingKey(challengeId), epochKey(challengeId),
+                            dirtyKey(challengeId)),
+                    String.valueOf(memberId), String.valueOf(score), team ? "incr" : "gt", epoch);
+            if (result != null && result < 0) {
+                rebuild(challenge);
+            }
+        } catch (DataAccessException e) {
+            log.warn("챌린지 {} 랭킹 반영 실패, 다음 조회 시 재구성합니다.", challengeId, e);
+            staleChallengeIds.add(challengeId);
+        }
+    }
+
+    // 동점자는 같은 순위 (나보다 점수가 높은 참가자 수 + 1), Redis를 사용할 수 없으면 empty
+    public Optional<Integer> findRank(Challenge challenge, int memberId) {
+        try {
+            prepare(challenge);
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            String key = key(challenge.getId());
+            Double score = zSet.score(key, String.valueOf(memberId));
+            if (score == null) {
+                return Optional.empty();
+            }
+            Long higher = zSet.count(key, Math.nextUp(score), Double.POSITIVE_INFINITY);
+            return Optional.of(higher == null ? 1 : higher.intValue() + 1);
+        } catch (DataAccessException e) {
+            log.warn("챌린지 {} 랭킹 조회 실패, MySQL 기준으로 계산합니다.", challenge.getId(), e);
+            return Optional.empty();
+        }
+    }
+
+    public Page<LeaderboardResponse> getLeaderboard(int challengeId, Pageable pageable) {
+        Challenge challenge = challengeRepository.findById(challengeId)
+                .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다. with id: " + challengeId));
+
+        List<double[]> entries;
+        long total;
+        try {
+            prepare(challenge);
+            ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+            String key = key(challengeId);
+            Set<TypedTuple<String>> tuples = zSet.reverseRangeWithScores(key, pageable.getOffset(),
+                    pageable.getOffset() + pageable.getPageSize() - 1);
+            Long size = zSet.zCard(key);
+            total = size == null ? 0 : size;
+            entries = new ArrayList<>();
+            if (tuples != null) {
+                for (TypedTuple<String> tuple : tuples) {
+                    entries.add(new double[]{Double.parseDouble(tuple.getValue()), tuple.getScore()});
+                }
+            }
+            // 페이지 첫 항목의 순위만 Redis에서 구하고 나머지는 점수 비교로 이어서 매긴다
+            int firstRank = entries.isEmpty() ? 0
+                    : zSet.count(key, Math.nextUp(entries.get(0)[1]), Double.POSITIVE_INFINITY).intValue() + 1;
+            return new PageImpl<>(toResponses(entries, firstRank, pageable.getOffset()), pageable, total);
+        } catch (DataAccessException e) {
+            log.warn("챌린지 {} 랭킹 목록 조회 실패, MySQL 기준으로 계산합니다.", challengeId, e);
+        }
+
+        List<double[]> all = loadScores(challenge);
+        all.sort(Comparator.comparingDouble((double[] entry) -> entry[1]).reversed());
+        total = all.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+        entries = all.subList(from, to);
+        int firstRank = 0;
+        if (!entries.isEmpty()) {
+            double firstScore = entries.get(0)[1];
+            firstRank = (int) all.stream().filter(entry -> entry[1] > firstScore).count() + 1;
+        }
+        return new PageImpl<>(toResponses(entries, firstRank, pageable.getOffset()), pageable, total);
+    }
+
+    // MySQL 기록으로 랭킹을 새로 만들어 교체 (임시 키에 적재 후 RENAME)
+    // 재구성 중 들어온 기록은 :dirty로 남으므로, 그런 기록이 없을 때까지 다시 읽는다
+    public void rebuild(Challenge challenge) {
+        int challengeId = challenge.getId();
+        String key = key(challengeId);
+        String rebuildingKey = rebuildingKey(challengeId);
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            stringRedisTemplate.opsForValue().set(rebuildingKey, "1", REBUILD_MARKER_TTL);
+            stringRedisTemplate.opsForValue().increment(epochKey(challengeId));
+            stringRedisTemplate.delete(dirtyKey(challengeId));
+
+            Set<TypedTuple<String>> tuples = loadScores(challenge).stream()
+                    .map(entry -> (TypedTuple<String>) new DefaultTypedTuple<>(String.valueOf((int) entry[0]),
+                            entry[1]))
+                    .collect(Collectors.toCollection(HashSet::new));
+            if (tuples.isEmpty()) {
+                stringRedisTemplate.delete(key);
+            } else {
+                String tempKey = key + ":rebuild";
+                stringRedisTemplate.delete(tempKey);
+                stringRedisTemplate.opsForZSet().add(tempKey, tuples);
+                stringRedisTemplate.rename(tempKey, key);
+            }
+
+            Long completed = stringRedisTemplate.execute(COMPLETE_REBUILD_SCRIPT,
+                    List.of(readyKey(challengeId), rebuildingKey, dirtyKey(challengeId)));
+            if (completed != null && completed == 1) {
+                staleChallengeIds.remove(challengeId);
+                log.info("챌린지 {} 랭킹 재구성 완료 ({}명)", challengeId, tuples.size());
+                return;
+            }
+            log.debug("챌린지 {} 랭킹 재구성 중 기록이 들어와 다시 읽습니다.", challengeId);
+        }
+        // 기록이 계속 들어오면 다음 접근 때 다시 시도
+        stringRedisTemplate.delete(rebuildingKey);
+        staleChallengeIds.add(challengeId);
+        log.warn("챌린지 {} 랭킹 재구성이 {}회 연속 기록과 겹쳐 다음 접근 때 다시 시도합니다.", challengeId,
+                MAX_REBUILD_ATTEMPTS);
+    }
+
+    public void evict(int challengeId) {
+        try {
+            stringRedisTemplate.delete(List.of(key(challengeId), readyKey(challengeId), dirtyKey(challengeId)));
+        } catch (DataAccessException e) {
+            log.warn("챌린지 {} 랭킹 삭제 실패", challengeId, e);
+        }
+    }
+
+    // 서버 시작 시 진행 중인 챌린지의 랭킹을 MySQL 기준으로 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildProgressLeaderboards() {
+        try {
+            List<Challenge> challenges = challengeRepository.findByStatus("PROGRESS");
+            for (Challenge challenge : challenges) {
+                rebuild(challenge);
+            }
+        } catch (DataAccessException e) {
+            log.warn("챌린지 랭킹 초기 적재 실패, 조회 시점에 재구성합니다.", e);
+        }
+    }
+
+    // 다른 요청(서버)이 재구성 중이면 기존 랭킹을 그대로 읽는다
+    private void prepare(Challenge challenge) {
+        if (!isReady(challenge.getId())
+                && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(rebuildingKey(challenge.getId())))) {
+            rebuild(challenge);
+        }
+    }
+
+    // 기록이 없는 챌린지는 랭킹 키 없이 ready만 있다
+    private boolean isReady(int challengeId) {
+        return !staleChallengeIds.contains(challengeId)
+                && Boolean.TRUE.equals(stringRedisTemplate.hasKey(readyKey(challengeId)));
+    }
+
+    // [memberId, score] 목록
+    private List<double[]> loadScores(Challenge challenge) {
+        List<Object[]> rows = "TEAM".equals(challenge.getType())
+                ? challengeRecordRepository.sumMeasurementGroupByMemberId(challenge.getId())
+                : challengeRecordRepository.maxMeasurementGroupByMemberId(challenge.getId());
+
+        List<double[]> scores = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            double score = (row[1] instanceof Number) ? ((Number) row[1]).doubleValue() : 0.0;
+            scores.add(new double[]{((Number) row[0]).doubleValue(), score});
+        }
+        return scores;
+    }
+
+    private List<LeaderboardResponse> toResponses(List<double[]> entries, int firstRank, long offset) {
+        List<Integer> memberIds = entries.stream().map(entry -> (int) entry[0]).toList();
+        Map<Integer, String> nicknames = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Member::getNickname, (a, b) -> a));
+
+        List<LeaderboardResponse> responses = new ArrayList<>(entries.size());
+        int rank = firstRank;
+        for (int i = 0; i < entries.size(); i++) {
+            double[] entry = entries.get(i);
+            if (i > 0 && entry[1] < entries.get(i - 1)[1]) {
+                rank = (int) offset + i + 1;
+            }
+            int memberId = (int) entry[0];
+            responses.add(new LeaderboardResponse(rank, memberId, nicknames.get(memberId), entry[1]));
+        }
+        return responses;
+    }
+
+    private String key(int challengeId) {
+        return KEY_PREFIX + challengeId;
+    }
+
+    private String readyKey(int challengeId) {
+        return key(challengeId) + ":ready";
+    }
+
+    private String rebuildingKey(int challengeId) {
+        return key(challengeId) + ":rebuilding";
+    }
+
+    private String epochKey(int challengeId) {
+        return key(challengeId) + ":epoch";
+    }
+
+    private String dirtyKey(int challengeId) {
+        return key(challengeId) + ":dirty";
+    }
+}
@@ -0,0 +1,112 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.dto.ChallengeLifecycleResult;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeMemberRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 매일 자정 챌린지 상태 전환 (OPEN → PROGRESS, PROGRESS → END)
+// 챌린지 단위로 엔티티를 불러오지 않고 청크 단위 벌크 UPDATE로 처리하며, 청크마다 별도로 커밋한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeLifecycleService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeMemberRepository challengeMemberRepository;
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "10 0 0 * * *")
+    public ChallengeLifecycleResult updateChallengeAndMember() {
+        long startedAt = System.currentTimeMillis();
+
+        // start_date, end_date가 하루 전인 챌린지가 대상
+        LocalDate targetDate = LocalDate.now().minusDays(1);
+        log.info("챌린지 상태 변경 스케줄러 실행 (기준일: {})", targetDate);
+
+        int[] started = new int[2];
+        int[] ended = new int[3];
+        int failedChunks = 0;
+
+        List<Integer> startingIds = challengeRepository.findIdsByStartDateAndStatus(targetDate, "OPEN");
+        for (List<Integer> chunk : chunks(startingIds)) {
+            try {
+                // 커밋된 청크만 집계 (커밋 중 실패하면 롤백되므로 더하지 않음)
+                int[] counts = transactionTemplate.execute(status -> {
+                    int members = challengeMemberRepository.updateStatusByChallengeIdIn(chunk, "JOINED");
+                    int challenges = challengeRepository.updateStatusByIdIn(chunk, "PROGRESS");
+                    return new int[]{challenges, members};
+                });
+                started[0] += counts[0];
+                started[1] += counts[1];
+            } catch (RuntimeException e) {
+                failedChunks++;
+                log.error("챌린지 진행 전환 실패: {}", chunk, e);
+            }
+        }
+
+        List<Integer> endingIds = challengeRepository.findIdsByEndDateAndStatus(targetDate, "PROGRESS");
+        for (List<Integer> chunk : chunks(endingIds)) {
+            try {
+                int[] counts = transactionTemplate.execute(status -> {
+                    int members = challengeMemberRepository.updateStatusByChallengeIdIn(chunk, "ENDED");
+                    Map<Integer, Integer> winners = findWinners(chunk);
+                    winners.forEach(challengeRepository::updateWinner);
+                    int challenges = challengeRepository.updateStatusByIdIn(chunk, "END");
+                    return new int[]{challenges, members, winners.size()};
+                });
+                ended[0] += counts[0];
+                ended[1] += counts[1];
+                ended[2] += counts[2];
+            } catch (RuntimeException e) {
+                failedChunks++;
+                log.error("챌린지 종료 전환 실패: {}", chunk, e);
+            }
+        }
+
+        ChallengeLifecycleResult result = new ChallengeLifecycleResult(started[0], started[1], ended[0], ended[1],
+                ended[2], failedChunks, System.currentTimeMillis() - startedAt);
+        log.info("챌린지 상태 변경 완료: {}", result);
+        return result;
+    }
+
+    // 챌린지별 우승자 (challengeId → memberId)
+    // 챌린지 목표 항목(count, duration, distance)에서 가장 높은 기록을 낸 멤버, 동점이면 먼저 조회된 멤버
+    private Map<Integer, Integer> findWinners(List<Integer> challengeIds) {
+        Map<Integer, Integer> winners = new HashMap<>();
+        Map<Integer, Long> bestValues = new HashMap<>();
+
+        for (Object[] row : challengeRecordRepository.findWinnerCandidatesByChallengeIdIn(challengeIds)) {
+            int challengeId = (int) row[0];
+            int memberId = (int) row[1];
+            long value = (row[2] instanceof Number) ? ((Number) row[2]).longValue() : 0L;
+
+            if (value > bestValues.getOrDefault(challengeId, 0L)) {
+                bestValues.put(challengeId, value);
+                winners.put(challengeId, memberId);
+            }
+        }
+        return winners;
+    }
+
+    private List<List<Integer>> chunks(List<Integer> ids) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
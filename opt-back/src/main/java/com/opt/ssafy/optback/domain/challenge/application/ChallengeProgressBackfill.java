@@ -0,0 +1,45 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+// 서버 시작 시 progress_total이 비어 있는 TEAM 챌린지를 challenge_record 기준으로 한 번 채움
+// 채운 뒤에는 NULL이 아니므로 다음 기동부터는 대상이 없다. 챌린지마다 별도 트랜잭션 (ChallengeService 프록시 경유)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeProgressBackfill {
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeService challengeService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Integer> challengeIds;
+        try {
+            challengeIds = challengeRepository.findTeamIdsWithoutProgressTotal();
+        } catch (DataAccessException e) {
+            log.warn("TEAM 챌린지 누적 합계 초기화 대상 조회 실패", e);
+            return;
+        }
+
+        int rebuilt = 0;
+        for (Integer challengeId : challengeIds) {
+            try {
+                challengeService.rebuildTeamProgress(challengeId);
+                rebuilt++;
+            } catch (DataAccessException e) {
+                log.warn("챌린지 {} 누적 합계 초기화 실패", challengeId, e);
+            }
+        }
+        if (!challengeIds.isEmpty()) {
+            log.info("TEAM 챌린지 누적 합계 초기화 완료 ({}/{}건)", rebuilt, challengeIds.size());
+        }
+    }
+}
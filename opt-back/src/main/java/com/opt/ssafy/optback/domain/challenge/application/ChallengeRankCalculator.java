@@ -0,0 +1,125 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.entity.ChallengeRecord;
+import java.util.List;
+
+// 챌린지 순위 계산 (정렬 없이 O(n), 박싱 없는 primitive 맵 사용)
+// TEAM은 멤버별 기록 합계, NORMAL/SURVIVAL은 멤버별 최고 기록으로 비교하며 동점자는 같은 순위
+public class ChallengeRankCalculator {
+
+    private ChallengeRankCalculator() {
+    }
+
+    public static int calculateRank(String challengeType, int memberId, List<ChallengeRecord> records) {
+        boolean team = "TEAM".equals(challengeType);
+        MemberScores scores = new MemberScores(records.size());
+
+        for (ChallengeRecord record : records) {
+            if (team) {
+                scores.add(record.getMemberId(), sumOf(record));
+            } else {
+                scores.max(record.getMemberId(), firstOf(record));
+            }
+        }
+
+        // 나보다 점수가 높은 멤버 수 + 1
+        double myScore = scores.get(memberId);
+        int higher = 0;
+        for (int i = 0; i < scores.keys.length; i++) {
+            if (scores.used[i] && scores.values[i] > myScore) {
+                higher++;
+            }
+        }
+        return higher + 1;
+    }
+
+    private static double sumOf(ChallengeRecord record) {
+        double total = 0.0;
+        if (record.getCount() != null) {
+            total += record.getCount();
+        }
+        if (record.getDuration() != null) {
+            total += record.getDuration();
+        }
+        if (record.getDistance() != null) {
+            total += record.getDistance();
+        }
+        return total;
+    }
+
+    // count, duration, distance 중 NOT NULL인 첫 번째 값
+    private static double firstOf(ChallengeRecord record) {
+        if (record.getCount() != null) {
+            return record.getCount();
+        }
+        if (record.getDuration() != null) {
+            return record.getDuration();
+        }
+        if (record.getDistance() != null) {
+            return record.getDistance();
+        }
+        return 0.0;
+    }
+
+    // memberId → 점수, 선형 탐사(open addressing) 해시맵
+    private static class MemberScores {
+        private final int[] keys;
+        private final double[] values;
+        private final boolean[] used;
+        private final int mask;
+
+        MemberScores(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new double[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        }
+
+        void add(int key, double value) {
+            int index = find(key);
+            if (index < 0) {
+                insert(~index, key, value);
+            } else {
+                values[index] += value;
+            }
+        }
+
+        void max(int key, double value) {
+            int index = find(key);
+            if (index < 0) {
+                insert(~index, key, value);
+            } else if (values[index] < value) {
+                values[index] = value;
+            }
+        }
+
+        double get(int key) {
+            int index = find(key);
+            return index < 0 ? 0.0 : values[index];
+        }
+
+        // key가 있으면 해당 슬롯, 없으면 ~(비어 있는 슬롯)
+        private int find(int key) {
+            int index = mix(key) & mask;
+            while (used[index]) {
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return ~index;
+        }
+
+        private void insert(int index, int key, double value) {
+            keys[index] = key;
+            values[index] = value;
+            used[index] = true;
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.dto.ChallengeRecordRequest;
+import com.opt.ssafy.optback.domain.challenge.dto.PendingChallengeRecord;
+import com.opt.ssafy.optback.domain.challenge.dto.RecordIngestionStatsResponse;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordIngestionRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 챌린지 기록 write-behind 큐
+// 요청은 Redis Stream에 먼저 기록한 뒤 메모리에서 (챌린지, 멤버, 날짜) 단위로 병합하고, 주기적으로 묶어서 저장한다.
+// 저장이 끝난 항목만 Stream에서 지우므로, 비정상 종료 후 재시작하면 남은 항목을 다시 반영한다 (at-least-once).
+// 항목마다 적재한 서버(nodeId)를 남겨 재시작 시 자기 항목만 다시 읽고, 반영한 항목 ID는 기록과 같은 트랜잭션에 저장해 중복 반영을 막는다.
+// 서버마다 생존 키를 주기적으로 갱신하고, 생존 키가 만료된 서버(재생성되어 호스트 이름이 바뀐 경우 포함)의 항목은 다른 서버가 가져와 반영한다.
+@Slf4j
+@Service
+public class ChallengeRecordIngestionQueue {
+
+    private static final String STREAM_KEY = "challenge:record:pending";
+    private static final String NODE_KEY_PREFIX = "challenge:record:node:";
+    private static final String DEAD_LETTER_KEY = "challenge:record:dead-letter";
+    private static final int BATCH_SIZE = 500;
+
+    private final ChallengeService challengeService;
+    private final ChallengeRecordIngestionRepository challengeRecordIngestionRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration appliedRetention;
+    private final Duration nodeTtl;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long retryBackoffMaxMillis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<String, PendingChallengeRecord> buffer = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong flushedSubmissions = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    // nodeId가 바뀌어도 이전 nodeId의 항목은 생존 키 만료 후 다른 서버가 가져가므로 호스트 이름을 기본값으로 사용
+    public ChallengeRecordIngestionQueue(ChallengeService challengeService,
+                                         ChallengeRecordIngestionRepository challengeRecordIngestionRepository,
+                                         StringRedisTemplate stringRedisTemplate,
+                                         @Value("${challenge.record.write-behind.enabled:false}") boolean enabled,
+                                         @Value("${challenge.record.write-behind.node-id:${HOSTNAME:local}}") String nodeId,
+                                         @Value("${challenge.record.write-behind.applied-retention:P7D}")
+                                         Duration appliedRetention,
+                                         @Value("${challenge.record.write-behind.node-ttl:PT30S}") Duration nodeTtl,
+                                         @Value("${challenge.record.write-behind.max-attempts:5}") int maxAttempts,
+                                         @Value("${challenge.record.write-behind.retry-backoff-ms:1000}")
+                                         long retryBackoffMillis,
+                                         @Value("${challenge.record.write-behind.retry-backoff-max-ms:60000}")
+                                         long retryBackoffMaxMillis) {
+        this.challengeService = challengeService;
+        this.challengeRecordIngestionRepository = challengeRecordIngestionRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.appliedRetention = appliedRetention;
+        this.nodeTtl = nodeTtl;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retryBackoffMaxMillis = retryBackoffMaxMillis;
+    }
+
+    // 큐에 접수되면 true, 비활성화 상태이거나 Redis를 사용할 수 없으면 false (호출 측에서 바로 저장)
+    public boolean enqueue(int memberId, ChallengeRecordRequest request) {
+        if (!enabled) {
+            return false;
+        }
+        if (request.getCount() == null && request.getDuration() == null && request.getDistance() == null) {
+            throw new IllegalStateException("count, duration, distance가 모두 null이면 안됩니다.");
+        }
+
+        LocalDate day = LocalDate.now();
+        Map<String, String> fields = new HashMap<>();
+        fields.put("challengeId", String.valueOf(request.getChallengeId()));
+        fields.put("memberId", String.valueOf(memberId));
+        fields.put("day", day.toString());
+        fields.put("nodeId", nodeId);
+        putIfNotNull(fields, "count", request.getCount());
+        putIfNotNull(fields, "duration", request.getDuration());
+        putIfNotNull(fields, "distance", request.getDistance());
+
+        RecordId recordId;
+        try {
+            recordId = stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(fields));
+        } catch (DataAccessException e) {
+            log.warn("챌린지 기록 큐 적재 실패, 바로 저장합니다.", e);
+            return false;
+        }
+
+        buffer(request.getChallengeId(), memberId, day, request.getCount(), request.getDuration(),
+                request.getDistance(), recordId == null ? null : recordId.getValue());
+        submitted.incrementAndGet();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${challenge.record.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        Map<String, PendingChallengeRecord> drained;
+        lock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            drained = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 재시도 대기 중인 기록은 다음 주기로 넘긴다
+        long now = System.currentTimeMillis();
+        List<PendingChallengeRecord> pending = new ArrayList<>(drained.size());
+        List<PendingChallengeRecord> waiting = new ArrayList<>();
+        for (PendingChallengeRecord record : drained.values()) {
+            (record.getRetryAt() > now ? waiting : pending).add(record);
+        }
+        requeue(waiting);
+
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            List<PendingChallengeRecord> batch = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+            RuntimeException failure = apply(batch);
+            if (failure == null) {
+                continue;
+            }
+            if (batch.size() == 1) {
+                retryLater(batch.get(0), failure);
+                continue;
+            }
+            // 한 건 때문에 묶음 전체가 막히지 않도록 한 건씩 다시 반영하고, 실패한 기록만 재시도
+            log.warn("챌린지 기록 {}건 묶음 반영 실패, 한 건씩 다시 반영합니다.", batch.size(), failure);
+            for (PendingChallengeRecord record : batch) {
+                RuntimeException recordFailure = apply(List.of(record));
+                if (recordFailure != null) {
+                    retryLater(record, recordFailure);
+                }
+            }
+        }
+    }
+
+    // 재시작 시 Stream에 남아 있는 (저장되지 않은) 자기 항목과 생존 키가 없는 서버의 항목을 다시 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            touchNode();
+            int replayed = bufferStreamEntries(true);
+            if (replayed == 0) {
+                return;
+            }
+            log.info("미반영 챌린지 기록 {}건 재처리", replayed);
+        } catch (DataAccessException e) {
+            log.warn("미반영 챌린지 기록 조회 실패", e);
+            return;
+        }
+        flush();
+    }
+
+    // 생존 키를 갱신하고, 그 사이 생존 키가 만료된 서버가 남긴 항목을 가져온다
+    @Scheduled(fixedDelayString = "${challenge.record.write-behind.claim-interval-ms:10000}")
+    public void claimOrphans() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            touchNode();
+            int claimed = bufferStreamEntries(false);
+            if (claimed > 0) {
+                log.info("종료된 서버가 남긴 챌린지 기록 {}건을 가져왔습니다.", claimed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("종료된 서버의 챌린지 기록 조회 실패", e);
+        }
+    }
+
+    // 반영 이력은 Stream 삭제에 실패한 항목이 재시작 시 걸러질 만큼만 보관
+    @Scheduled(cron = "${challenge.record.write-behind.applied-cleanup-cron:0 30 4 * * *}")
+    public void purgeAppliedHistory() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = challengeRecordIngestionRepository.deleteAppliedBefore(
+                    LocalDateTime.now().minus(appliedRetention));
+            log.info("챌린지 기록 반영 이력 {}건 정리", deleted);
+        } catch (DataAccessException e) {
+            log.warn("챌린지 기록 반영 이력 정리 실패", e);
+        }
+    }
+
+    // 정상 종료 시 생존 키를 지워 반영하지 못한 항목을 다른 서버가 바로 가져가게 한다
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(NODE_KEY_PREFIX + nodeId);
+        } catch (DataAccessException e) {
+            log.warn("챌린지 기록 큐 생존 키 삭제 실패", e);
+        }
+    }
+
+    public RecordIngestionStatsResponse getStats() {
+        long rows = flushedRows.get();
+        long submissions = flushedSubmissions.get();
+        return new RecordIngestionStatsResponse(enabled, submitted.get(), submissions, rows, deadLettered.get(),
+                buffer.size(),
+                rows == 0 ? 0.0 : (double) submissions / rows);
+    }
+
+    private void touchNode() {
+        stringRedisTemplate.opsForValue().set(NODE_KEY_PREFIX + nodeId, String.valueOf(System.currentTimeMillis()),
+                nodeTtl);
+    }
+
+    // includeOwn이면 자기 항목과 nodeId 없는 이전 항목도 읽는다, 같은 항목을 다시 읽어도 버퍼에서 한 번만 병합
+    private int bufferStreamEntries(boolean includeOwn) {
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded());
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+        Map<String, Boolean> alive = new HashMap<>();
+        int buffered = 0;
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            Object owner = fields.get("nodeId");
+            boolean own = owner == null || nodeId.equals(owner);
+            if (own ? !includeOwn : alive.computeIfAbsent((String) owner, this::isAlive)) {
+                continue;
+            }
+            buffered++;
+            buffer(Integer.parseInt((String) fields.get("challengeId")),
+                    Integer.parseInt((String) fields.get("memberId")),
+                    LocalDate.parse((String) fields.get("day")),
+                    parse(fields.get("count")), parse(fields.get("duration")), parse(fields.get("distance")),
+                    record.getId().getValue());
+        }
+        return buffered;
+    }
+
+    private boolean isAlive(String owner) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(NODE_KEY_PREFIX + owner));
+    }
+
+    private void buffer(int challengeId, int memberId, LocalDate day, Integer count, Integer duration,
+                        Integer distance, String streamId) {
+        String key = challengeId + ":" + memberId + ":" + day;
+        lock.readLock().lock();
+        try {
+            buffer.compute(key, (k, existing) -> (existing == null
+                    ? new PendingChallengeRecord(challengeId, memberId, day) : existing)
+                    .add(count, duration, distance, streamId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void requeue(List<PendingChallengeRecord> batch) {
+        lock.readLock().lock();
+        try {
+            for (PendingChallengeRecord record : batch) {
+                String key = record.getChallengeId() + ":" + record.getMemberId() + ":" + record.getDay();
+                buffer.merge(key, record, PendingChallengeRecord::absorb);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 반영에 성공하면 null, 실패하면 원인 예외를 반환
+    private RuntimeException apply(List<PendingChallengeRecord> batch) {
+        try {
+            challengeService.applyRecordBatch(batch);
+        } catch (RuntimeException e) {
+            return e;
+        }
+        int submissions = batch.stream().mapToInt(PendingChallengeRecord::getSubmissions).sum();
+        flushedSubmissions.addAndGet(submissions);
+        flushedRows.addAndGet(batch.size());
+        acknowledge(batch);
+        log.debug("챌린지 기록 반영: 요청 {}건 → {}건", submissions, batch.size());
+        return null;
+    }
+
+    // 실패할 때마다 재시도 간격을 두 배로 늘리고, maxAttempts번 실패하면 dead-letter Stream으로 옮긴다
+    private void retryLater(PendingChallengeRecord record, RuntimeException cause) {
+        if (record.getAttempts() + 1 >= maxAttempts) {
+            deadLetter(record, cause);
+            return;
+        }
+        long backoff = Math.min(retryBackoffMillis << Math.min(record.getAttempts(), 20), retryBackoffMaxMillis);
+        record.recordFailure(System.currentTimeMillis() + backoff);
+        log.warn("챌린지 기록 반영 실패 {}회, {}ms 후 재시도: challengeId {}, memberId {}, day {}",
+                record.getAttempts(), backoff, record.getChallengeId(), record.getMemberId(), record.getDay(), cause);
+        requeue(List.of(record));
+    }
+
+    private void deadLetter(PendingChallengeRecord record, RuntimeException cause) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("challengeId", String.valueOf(record.getChallengeId()));
+        fields.put("memberId", String.valueOf(record.getMemberId()));
+        fields.put("day", record.getDay().toString());
+        putIfNotNull(fields, "count", record.getCount());
+        putIfNotNull(fields, "duration", record.getDuration());
+        putIfNotNull(fields, "distance", record.getDistance());
+        fields.put("streamIds", String.join(",", record.getStreamIds()));
+        fields.put("attempts", String.valueOf(record.getAttempts() + 1));
+        fields.put("error", String.valueOf(cause));
+        try {
+            stringRedisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_KEY).ofMap(fields));
+        } catch (DataAccessException e) {
+            // 옮기지 못하면 원본 항목을 지우지 않고 최대 간격으로 다시 시도
+            log.warn("챌린지 기록 dead-letter 적재 실패", e);
+            record.recordFailure(System.currentTimeMillis() + retryBackoffMaxMillis);
+            requeue(List.of(record));
+            return;
+        }
+        deadLettered.incrementAndGet();
+        log.error("챌린지 기록 {}회 반영 실패, {}로 옮겼습니다: challengeId {}, memberId {}, day {}, streamIds {}",
+                record.getAttempts() + 1, DEAD_LETTER_KEY, record.getChallengeId(), record.getMemberId(),
+                record.getDay(), record.getStreamIds(), cause);
+        acknowledge(List.of(record));
+    }
+
+    private void acknowledge(List<PendingChallengeRecord> batch) {
+        String[] ids = batch.stream()
+                .flatMap(record -> record.getStreamIds().stream())
+                .toArray(String[]::new);
+        if (ids.length == 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+        } catch (DataAccessException e) {
+            log.warn("반영된 챌린지 기록 {}건을 큐에서 삭제하지 못했습니다.", ids.length, e);
+        }
+    }
+
+    private void putIfNotNull(Map<String, String> fields, String name, Integer value) {
+        if (value != null) {
+            fields.put(name, String.valueOf(value));
+        }
+    }
+
+    private Integer parse(Object value) {
+        return value == null ? null : Integer.valueOf((String) value);
+    }
+}
@@ -0,0 +1,49 @@
+package com.opt.ssafy.optback.domain.challenge.application;
+
+import com.opt.ssafy.optback.domain.challenge.dto.ChallengeResponse;
+import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
+import com.opt.ssafy.optback.domain.member.dto.MemberSummary;
+import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 챌린지 목록의 host/winner를 IN 쿼리 한 번으로 조회해 ChallengeResponse를 만든다
+@Component
+@RequiredArgsConstructor
+public class ChallengeResponseAssembler {
+
+    private final MemberRepository memberRepository;
+
+    public List<ChallengeResponse> toResponses(List<Challenge> challenges) {
+        Set<Integer> memberIds = new HashSet<>();
+        for (Challenge challenge : challenges) {
+            memberIds.add(challenge.getHostId());
+            if (challenge.getWinnerId() != null) {
+                memberIds.add(challenge.getWinnerId());
+            }
+        }
+
+        Map<Integer, MemberSummary> members = memberIds.isEmpty() ? Map.of()
+                : memberRepository.findSummariesByIdIn(memberIds).stream()
+                        .collect(Collectors.toMap(MemberSummary::getId, Function.identity()));
+
+        return challenges.stream()
+                .map(challenge -> {
+                    MemberSummary winner = challenge.getWinnerId() == null ? null
+                            : members.get(challenge.getWinnerId());
+                    return ChallengeResponse.from(challenge, members.get(challenge.getHostId()),
+                            winner == null ? null : winner.getNickname());
+                })
+                .toList();
+    }
+
+    public ChallengeResponse toResponse(Challenge challenge) {
+        return toResponses(List.of(challenge)).get(0);
+    }
+}
@@ -1,44 +1,50 @@
 package com.opt.ssafy.optback.domain.challenge.application;
 
 import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
+import com.opt.ssafy.optback.domain.challenge.dto.ChallengeCursorResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ChallengeRecordResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ChallengeRecordWithRankResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ChallengeResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.ContributionResponse;
 import com.opt.ssafy.optback.domain.challenge.dto.CreateChallengeRequest;
 import com.opt.ssafy.optback.domain.challenge.dto.JoinChallengeRequest;
+import com.opt.ssafy.optback.domain.challenge.dto.PendingChallengeRecord;
 import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
 import com.opt.ssafy.optback.domain.challenge.entity.ChallengeMember;
 import com.opt.ssafy.optback.domain.challenge.entity.ChallengeRecord;
+import com.opt.ssafy.optback.domain.challenge.entity.ChallengeRecordIngestion;
 import com.opt.ssafy.optback.domain.challenge.exception.ChallengeCreationException;
+import com.opt.ssafy.optback.domain.challenge.exception.ChallengeCursorException;
 import com.opt.ssafy.optback.domain.challenge.exception.ChallengeNotFoundException;
 import com.opt.ssafy.optback.domain.challenge.exception.ChallengeRecordNotFoundException;
 import com.opt.ssafy.optback.domain.challenge.exception.ChallengeTypeMismatchException;
 import com.opt.ssafy.optback.domain.challenge.repository.ChallengeMemberRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordIngestionRepository;
 import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordRepository;
 import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
 import com.opt.ssafy.optback.domain.member.entity.Member;
-import com.opt.ssafy.optback.domain.member.exception.MemberNotFoundException;
-import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
 import com.opt.ssafy.optback.global.application.S3Service;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -47,12 +53,17 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ChallengeService {
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     private final ChallengeRepository challengeRepository;
     private final ChallengeRecordRepository challengeRecordRepository;
     private final ChallengeMemberRepository challengeMemberRepository;
     private final UserDetailsServiceImpl userDetailsService;
-    private final MemberRepository memberRepository;
     private final S3Service s3Service;
+    private final ChallengeLeaderboardService challengeLeaderboardService;
+    private final ChallengeResponseAssembler challengeResponseAssembler;
+    private final ChallengeContributionCache challengeContributionCache;
+    private final ChallengeRecordIngestionRepository challengeRecordIngestionRepository;
 
     @Value("${challenge.image.bucket.name}")
     private String bucketName;
@@ -61,29 +72,36 @@ public class ChallengeService {
     public Page<ChallengeResponse> getChallenges(String status, Pageable pageable) {
         Page<Challenge> challenges = challengeRepository.findAllByStatusOrderByIdDesc(status, pageable);
 
-        List<ChallengeResponse> challengeDtos = challenges.stream().map(challenge -> {
-            Member host = memberRepository.findById(challenge.getHostId()).orElseThrow(MemberNotFoundException::new);
-            // winnerId가 존재하면 winnerName 조회
-            String winnerNickname = challenge.getWinnerId() == null ? null
-                    : memberRepository.getMemberById(challenge.getWinnerId()).getNickname();
-            return ChallengeResponse.from(challenge, host, winnerNickname);
-        }).toList();
+        // 페이지 내 host/winner를 한 번에 조회
+        List<ChallengeResponse> challengeDtos = challengeResponseAssembler.toResponses(challenges.getContent());
         return new PageImpl<>(challengeDtos, pageable, challenges.getTotalElements());
     }
 
     public ChallengeResponse getChallengeById(int id) {
         Challenge challenge = challengeRepository.findById(id)
                 .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지입니다. with id: " + id));
-        Member host = memberRepository.findById(challenge.getHostId()).orElseThrow(MemberNotFoundException::new);
-        String winnerNickname = challenge.getWinnerId() == null ? null
-                : memberRepository.getMemberById(challenge.getWinnerId()).getNickname();
-        return ChallengeResponse.from(challenge, host, winnerNickname);
+        return challengeResponseAssembler.toResponse(challenge);
     }
 
+    // 캐시된 기여도 스냅샷에 조회자 본인 여부만 표시해서 반환
     public List<ContributionResponse> getChallengeContributions(int id) {
-        Member currentUser = userDetailsService.getMemberByContextHolder();
+        Integer currentMemberId = userDetailsService.getMemberIdByContextHolder();
+
+        return challengeContributionCache.get(id, () -> loadChallengeContributions(id)).stream()
+                .map(contribution -> new ContributionResponse(
+                        contribution.getMemberId(),
+                        contribution.getNickname(),
+                        contribution.getMeasurement(),
+                        contribution.getContributionPercentage(),
+                        currentMemberId != null && currentMemberId == contribution.getMemberId()))
+                .toList();
+    }
+
+    private List<ContributionResponse> loadChallengeContributions(int id) {
+        Challenge challenge = challengeRepository.findById(id)
+                .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지입니다. with id: " + id));
 
-        if (!getChallengeById(id).getType().equals("TEAM")) {
+        if (!challenge.getType().equals("TEAM")) {
             throw new ChallengeTypeMismatchException("기여도를 계산할 수 없는 챌린지 유형입니다. TEAM 챌린지만 가능합니다.");
         }
 
@@ -106,17 +124,13 @@ public class ChallengeService {
                     (count != null) ? count : (duration != null) ? duration : (distance != null) ? distance : 0.0;
 
             totalContribution += validContribution;
-            boolean isMyRecord = false;
-            if(currentUser != null) {
-                isMyRecord = (currentUser.getId() == memberId);
-            }
 
             // 기존 memberId가 이미 존재하면 값 누적
             if (contributionMap.containsKey(memberId)) {
                 ContributionResponse existing = contributionMap.get(memberId);
                 existing.setMeasurement(existing.getMeasurement() + validContribution);
             } else {
-                contributionMap.put(memberId, new ContributionResponse(memberId, nickname, validContribution, 0.0, isMyRecord));
+                contributionMap.put(memberId, new ContributionResponse(memberId, nickname, validContribution, 0.0, false));
             }
         }
 
@@ -178,9 +192,11 @@ public class ChallengeService {
             throw new ChallengeNotFoundException("존재하지 않는 챌린지 입니다. with id: " + id);
         }
         challengeRepository.deleteById(id);
+        challengeLeaderboardService.evict(id);
     }
 
-    // 챌린지 수행 기록
+    // 챌린지 수행 기록 (조회와 유형별 기록을 한 트랜잭션으로 묶음)
+    @Transactional
     public void recordChallenge(int memberId, int challengeId, Integer count, Integer duration, Integer distance) {
         // 챌린지 정보 조회
         Challenge challenge = challengeRepository.findById(challengeId)
@@ -189,10 +205,13 @@ public class ChallengeService {
         // 무조건 하나의 값만 NOT NULL이므로, 해당하는 기록 메서드만 호출
         if (challenge.getExerciseCount() != null) {
             recordCount(memberId, challengeId, count);
+            return;
         } else if (challenge.getExerciseDistance() != null) {
             recordDistance(memberId, challengeId, distance);
+            return;
         } else if (challenge.getExerciseDuration() != null) {
             recordDuration(memberId, challengeId, duration);
+            return;
         }
         throw new IllegalStateException("count, duration, distance가 모두 null이면 안됩니다.");
     }
@@ -203,7 +222,7 @@ public class ChallengeService {
                 .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다. with id: " + challengeId));
 
         ChallengeMember challengeMember = challengeMemberRepository
-                .findByChallengeIdAndMemberId(challengeId, memberId)
+                .findForUpdateByChallengeIdAndMemberId(challengeId, memberId)
                 .orElseThrow(() -> new IllegalStateException("아직 챌린지에 참여하지 않은 사용자 입니다. 먼저 챌린지에 참여해주세요."));
 
         Date today = new Date(); // 오늘 날짜
@@ -211,14 +230,18 @@ public class ChallengeService {
         Optional<ChallengeRecord> existingRecord = challengeRecordRepository.findByChallengeMemberAndCreatedAt(
                 challengeMember, today);
 
+        // TEAM 챌린지 누적 합계에 반영할 증가분
+        int delta = 0;
         if (existingRecord.isPresent()) {
             ChallengeRecord record = existingRecord.get();
             if (count > record.getCount()) {
+                delta = count - record.getCount();
                 record.setCount(count);
             }
             updateIsPassed(record, challenge);
             challengeRecordRepository.save(record);
         } else {
+            delta = count;
             boolean isPassed = checkIsPassed(count, null, null, challenge);
             ChallengeRecord newRecord = ChallengeRecord.builder()
                     .challenge(challenge)
@@ -231,18 +254,20 @@ public class ChallengeService {
             challengeRecordRepository.save(newRecord);
         }
         if (challenge.getType().equals("TEAM")) {
-            updateCountProgress(challenge);
-
+            updateCountProgress(challenge, delta);
+            challengeContributionCache.invalidate(challengeId);
         }
+        challengeLeaderboardService.recordScore(challenge, memberId, delta, count);
     }
 
 
+    @Transactional
     public void recordDistance(int memberId, int challengeId, Integer distance) {
         Challenge challenge = challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다. with id: " + challengeId));
 
         ChallengeMember challengeMember = challengeMemberRepository
-                .findByChallengeIdAndMemberId(challengeId, memberId)
+                .findForUpdateByChallengeIdAndMemberId(challengeId, memberId)
                 .orElseThrow(() -> new IllegalStateException("아직 챌린지에 참여하지 않은 사용자 입니다. 먼저 챌린지에 참여해주세요."));
 
         Date today = new Date();
@@ -250,11 +275,14 @@ public class ChallengeService {
         Optional<ChallengeRecord> existingRecord = challengeRecordRepository.findByChallengeMemberAndCreatedAt(
                 challengeMember, today);
 
+        // 오늘 누적된 distance (NORMAL/SURVIVAL 랭킹 점수)
+        int dayDistance = distance;
         if (existingRecord.isPresent()) {
             ChallengeRecord record = existingRecord.get();
             Integer newDistance = record.getDistance() + distance;
 
             record.setDistance(newDistance);
+            dayDistance = newDistance;
 
             updateIsPassed(record, challenge);
             challengeRecordRepository.save(record);
@@ -271,17 +299,21 @@ public class ChallengeService {
             challengeRecordRepository.save(newRecord);
         }
         if (challenge.getType().equals("TEAM")) {
-            updateDistanceProgress(challenge);
+            // distance는 매 기록이 누적되므로 이번 기록값이 곧 증가분
+            updateDistanceProgress(challenge, distance);
+            challengeContributionCache.invalidate(challengeId);
         }
+        challengeLeaderboardService.recordScore(challenge, memberId, distance, dayDistance);
     }
 
 
+    @Transactional
     public void recordDuration(int memberId, int challengeId, Integer duration) {
         Challenge challenge = challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다. with id: " + challengeId));
 
         ChallengeMember challengeMember = challengeMemberRepository
-                .findByChallengeIdAndMemberId(challengeId, memberId)
+                .findForUpdateByChallengeIdAndMemberId(challengeId, memberId)
                 .orElseThrow(() -> new IllegalStateException("아직 챌린지에 참여하지 않은 사용자 입니다. 먼저 챌린지에 참여해주세요."));
 
         Date today = new Date(); // 오늘 날짜
@@ -289,14 +321,17 @@ public class ChallengeService {
         Optional<ChallengeRecord> existingRecord = challengeRecordRepository.findByChallengeMemberAndCreatedAt(
                 challengeMember, today);
 
+        int delta = 0;
         if (existingRecord.isPresent()) {
             ChallengeRecord record = existingRecord.get();
             if (duration > record.getDuration()) {
+                delta = duration - record.getDuration();
                 record.setDuration(duration);
             }
             updateIsPassed(record, challenge);
             challengeRecordRepository.save(record);
         } else {
+            delta = duration;
             boolean isPassed = checkIsPassed(null, duration, null, challenge);
             ChallengeRecord newRecord = ChallengeRecord.builder()
                     .challenge(challenge)
@@ -309,15 +344,170 @@ public class ChallengeService {
             challengeRecordRepository.save(newRecord);
         }
         if (challenge.getType().equals("TEAM")) {
-            updateDurationProgress(challenge);
+            updateDurationProgress(challenge, delta);
+            challengeContributionCache.invalidate(challengeId);
         }
+        challengeLeaderboardService.recordScore(challenge, memberId, delta, duration);
     }
 
 
+    // write-behind 큐에서 병합된 기록을 한 번에 반영 (조회 3회 + saveAll, TEAM progress는 챌린지당 한 번)
+    // 반영한 Stream 항목 ID를 같은 트랜잭션에 남기고, 이미 반영된 항목은 건너뛴다 (distance 합산이 중복되지 않도록)
+    @Transactional
+    public void applyRecordBatch(List<PendingChallengeRecord> batch) {
+        List<PendingChallengeRecord> pendingRecords = excludeApplied(batch);
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        Set<Integer> challengeIds = new HashSet<>();
+        Set<Integer> memberIds = new HashSet<>();
+        Set<Date> days = new HashSet<>();
+        for (PendingChallengeRecord pending : pendingRecords) {
+            challengeIds.add(pending.getChallengeId());
+            memberIds.add(pending.getMemberId());
+            days.add(java.sql.Date.valueOf(pending.getDay()));
+        }
+
+        Map<Integer, Challenge> challenges = challengeRepository.findAllById(challengeIds).stream()
+                .collect(Collectors.toMap(Challenge::getId, Function.identity()));
+        Map<String, ChallengeMember> challengeMembers = challengeMemberRepository
+                .findForUpdateByChallengeIdInAndMemberIdIn(challengeIds, memberIds).stream()
+                .collect(Collectors.toMap(cm -> cm.getChallengeId() + ":" + cm.getMemberId(), Function.identity()));
+        Map<String, ChallengeRecord> existingRecords = challengeMembers.isEmpty() ? Map.of()
+                : challengeRecordRepository.findByChallengeMemberIdInAndCreatedAtIn(
+                                challengeMembers.values().stream().map(ChallengeMember::getId).toList(), days).stream()
+                        .collect(Collectors.toMap(
+                                record -> record.getChallengeMember().getId() + ":" + toLocalDate(record.getCreatedAt()),
+                                Function.identity(), (a, b) -> a));
+
+        List<ChallengeRecord> records = new ArrayList<>();
+        Map<Integer, Integer> teamDeltas = new HashMap<>();
+        List<Runnable> leaderboardUpdates = new ArrayList<>();
+
+        for (PendingChallengeRecord pending : pendingRecords) {
+            Challenge challenge = challenges.get(pending.getChallengeId());
+            ChallengeMember challengeMember = challengeMembers.get(pending.getChallengeId() + ":" + pending.getMemberId());
+            if (challenge == null || challengeMember == null) {
+                log.warn("챌린지 기록 반영 제외: challengeId {}, memberId {} (챌린지 또는 참여 정보 없음)",
+                        pending.getChallengeId(), pending.getMemberId());
+                continue;
+            }
+
+            ChallengeRecord record = existingRecords.get(challengeMember.getId() + ":" + pending.getDay());
+            int delta;
+            Integer score;
+            if (challenge.getExerciseCount() != null && pending.getCount() != null) {
+                int previous = (record == null || record.getCount() == null) ? 0 : record.getCount();
+                delta = Math.max(pending.getCount() - previous, 0);
+                score = Math.max(pending.getCount(), previous);
+                if (record != null && delta > 0) {
+                    record.setCount(pending.getCount());
+                }
+            } else if (challenge.getExerciseDistance() != null && pending.getDistance() != null) {
+                int previous = (record == null || record.getDistance() == null) ? 0 : record.getDistance();
+                delta = pending.getDistance();
+                score = previous + pending.getDistance();
+                if (record != null) {
+                    record.setDistance(score);
+                }
+            } else if (challenge.getExerciseDuration() != null && pending.getDuration() != null) {
+                int previous = (record == null || record.getDuration() == null) ? 0 : record.getDuration();
+                delta = Math.max(pending.getDuration() - previous, 0);
+                score = Math.max(pending.getDuration(), previous);
+                if (record != null && delta > 0) {
+                    record.setDuration(pending.getDuration());
+                }
+            } else {
+                log.warn("챌린지 기록 반영 제외: challengeId {}의 측정 항목과 기록이 일치하지 않습니다.", challenge.getId());
+                continue;
+            }
+
+            if (record != null) {
+                updateIsPassed(record, challenge);
+            } else {
+                Integer count = challenge.getExerciseCount() != null ? pending.getCount() : null;
+                Integer duration = challenge.getExerciseDuration() != null ? pending.getDuration() : null;
+                Integer distance = challenge.getExerciseDistance() != null ? pending.getDistance() : null;
+                record = ChallengeRecord.builder()
+                        .challenge(challenge)
+                        .challengeMember(challengeMember)
+                        .memberId(challengeMember.getMemberId())
+                        .count(count)
+                        .duration(duration)
+                        .distance(distance)
+                        .createdAt(java.sql.Date.valueOf(pending.getDay()))
+                        .isPassed(checkIsPassed(count, duration, distance, challenge))
+                        .build();
+            }
+            records.add(record);
+
+            if ("TEAM".equals(challenge.getType())) {
+                teamDeltas.merge(challenge.getId(), delta, Integer::sum);
+            }
+            leaderboardUpdates.add(() -> challengeLeaderboardService.recordScore(challenge, pending.getMemberId(),
+                    delta, score));
+        }
+
+        challengeRecordRepository.saveAll(records);
+        LocalDateTime appliedAt = LocalDateTime.now();
+        challengeRecordIngestionRepository.saveAll(pendingRecords.stream()
+                .flatMap(pending -> pending.getStreamIds().stream())
+                .map(streamId -> new ChallengeRecordIngestion(streamId, appliedAt))
+                .toList());
+
+        teamDeltas.forEach((challengeId, delta) -> {
+            Challenge challenge = challenges.get(challengeId);
+            if (challenge.getExerciseCount() != null) {
+                updateCountProgress(challenge, delta);
+            } else if (challenge.getExerciseDistance() != null) {
+                updateDistanceProgress(challenge, delta);
+            } else if (challenge.getExerciseDuration() != null) {
+                updateDurationProgress(challenge, delta);
+            }
+            challengeContributionCache.invalidate(challengeId);
+        });
+        leaderboardUpdates.forEach(Runnable::run);
+    }
+
+    // 이전에 반영을 마쳤지만 Stream에서 지우지 못한 항목만 빼고, 같은 기록에 병합된 새 항목은 다시 병합해 반영
+    private List<PendingChallengeRecord> excludeApplied(List<PendingChallengeRecord> batch) {
+        List<String> streamIds = batch.stream().flatMap(pending -> pending.getStreamIds().stream()).toList();
+        if (streamIds.isEmpty()) {
+            return batch;
+        }
+        Set<String> applied = new HashSet<>(challengeRecordIngestionRepository.findAppliedStreamIds(streamIds));
+        if (applied.isEmpty()) {
+            return batch;
+        }
+
+        List<PendingChallengeRecord> pendingRecords = new ArrayList<>(batch.size());
+        for (PendingChallengeRecord pending : batch) {
+            if (pending.getStreamIds().stream().noneMatch(applied::contains)) {
+                pendingRecords.add(pending);
+                continue;
+            }
+            log.warn("이미 반영된 챌린지 기록 제외: challengeId {}, memberId {}, streamIds {}",
+                    pending.getChallengeId(), pending.getMemberId(),
+                    pending.getStreamIds().stream().filter(applied::contains).toList());
+            PendingChallengeRecord remaining = pending.without(applied);
+            if (!remaining.isEmpty()) {
+                pendingRecords.add(remaining);
+            }
+        }
+        return pendingRecords;
+    }
+
+    private LocalDate toLocalDate(Date date) {
+        return new java.sql.Date(date.getTime()).toLocalDate();
+    }
+
     // 기존의 챌린지 기록을 업데이트할 때, is_passed를 판정하는 함수
     private void updateIsPassed(ChallengeRecord record, Challenge challenge) {
-        if ("TEAM".equals(challenge.getType()) && challenge.getProgress() >= 100F) {
-            setAllTeamMembersPassed(challenge.getId());
+        if ("TEAM".equals(challenge.getType())) {
+            // TEAM은 개인 기록과 무관하게 progress 달성 여부로 판정, 나머지 기록은 markTeamPassed에서 일괄 갱신
+            if (challenge.isAllPassed() || challenge.getProgress() >= 100F) {
+                record.setIsPassed();
+            }
         } else if (record.getCount() != null && challenge.getExerciseCount() != null
                 && record.getCount() >= challenge.getExerciseCount()) {
             record.setIsPassed();
@@ -347,14 +537,9 @@ public class ChallengeService {
         return false;
     }
 
-    public void updateCountProgress(Challenge challenge) {
-        List<ChallengeMember> members = challengeMemberRepository.findByChallengeId(challenge.getId());
-
-        // 참여한 멤버들의 count 합산
-        int totalCount = members.stream()
-                .map(member -> challengeRecordRepository.sumCountByMemberIdAndChallengeId(member.getMemberId(),
-                        challenge.getId()).orElse(0))
-                .reduce(0, Integer::sum);
+    public void updateCountProgress(Challenge challenge, int delta) {
+        // 참여한 멤버들의 count 합산 (누적 합계에 증가분만 반영)
+        int totalCount = addProgressTotal(challenge, delta);
 
         // progress 계산
         float progress = (challenge.getExerciseCount() > 0)
@@ -369,17 +554,16 @@ public class ChallengeService {
         challenge.setProgress(progress);
         challengeRepository.save(challenge);
 
+        if (progress >= 100F) {
+            markTeamPassed(challenge);
+        }
+
         log.info("챌린지 {}의 progress가 {}로 업데이트됨.", challenge.getId(), progress);
     }
 
-    public void updateDurationProgress(Challenge challenge) {
-        List<ChallengeMember> members = challengeMemberRepository.findByChallengeId(challenge.getId());
-
-        // 참여한 멤버들의 duration 합산
-        int totalDuration = members.stream()
-                .map(member -> challengeRecordRepository.sumDurationByMemberIdAndChallengeId(member.getMemberId(),
-                        challenge.getId()).orElse(0))
-                .reduce(0, Integer::sum);
+    public void updateDurationProgress(Challenge challenge, int delta) {
+        // 참여한 멤버들의 duration 합산 (누적 합계에 증가분만 반영)
+        int totalDuration = addProgressTotal(challenge, delta);
 
         // progress 계산
         float progress = (challenge.getExerciseDuration() > 0)
@@ -394,17 +578,16 @@ public class ChallengeService {
         challenge.setProgress(progress);
         challengeRepository.save(challenge);
 
+        if (progress >= 100F) {
+            markTeamPassed(challenge);
+        }
+
         log.info("챌린지 {}의 progress (duration 기준) {}로 업데이트됨.", challenge.getId(), progress);
     }
 
-    public void updateDistanceProgress(Challenge challenge) {
-        List<ChallengeMember> members = challengeMemberRepository.findByChallengeId(challenge.getId());
-
-        // 참여한 멤버들의 distance 합산
-        int totalDistance = members.stream()
-                .map(member -> challengeRecordRepository.sumDistanceByMemberIdAndChallengeId(member.getMemberId(),
-                        challenge.getId()).orElse(0))
-                .reduce(0, Integer::sum);
+    public void updateDistanceProgress(Challenge challenge, int delta) {
+        // 참여한 멤버들의 distance 합산 (누적 합계에 증가분만 반영)
+        int totalDistance = addProgressTotal(challenge, delta);
 
         // progress 계산
         float progress = (challenge.getExerciseDistance() > 0)
@@ -414,21 +597,56 @@ public class ChallengeService {
         challenge.setProgress(progress);
         challengeRepository.save(challenge);
 
+        if (progress >= 100F) {
+            markTeamPassed(challenge);
+        }
+
         log.info("챌린지 {}의 progress (distance 기준) {}로 업데이트됨.", challenge.getId(), progress);
     }
 
+    // 누적 합계를 UPDATE 한 번으로 갱신한 뒤 최신 합계를 반환 (멤버 수와 무관하게 쿼리 2회)
+    private int addProgressTotal(Challenge challenge, int delta) {
+        if (delta != 0) {
+            challengeRepository.addProgressTotal(challenge.getId(), delta);
+        }
+        return challengeRepository.findProgressTotalById(challenge.getId());
+    }
 
-    private void setAllTeamMembersPassed(int challengeId) {
-        List<ChallengeRecord> teamRecords = challengeRecordRepository.findByChallengeId(challengeId);
+    // challenge_record를 기준으로 TEAM 챌린지의 누적 합계와 progress를 다시 계산
+    @Transactional
+    public void rebuildTeamProgress(int challengeId) {
+        Challenge challenge = challengeRepository.findById(challengeId)
+                .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다. with id: " + challengeId));
 
-        for (ChallengeRecord record : teamRecords) {
-            if (!record.isPassed()) { // 이미 true인 경우는 제외
-                record.setIsPassed();
-            }
+        if (!"TEAM".equals(challenge.getType())) {
+            throw new ChallengeTypeMismatchException("누적 합계를 계산할 수 없는 챌린지 유형입니다. TEAM 챌린지만 가능합니다.");
         }
 
-        challengeRecordRepository.saveAll(teamRecords);
-        log.info("챌린지 {}의 모든 멤버 isPassed = true", challengeId);
+        long total = challengeRecordRepository.sumMeasurementByChallengeId(challengeId);
+        challengeRepository.updateProgressTotal(challengeId, (int) total);
+
+        if (challenge.getExerciseCount() != null) {
+            updateCountProgress(challenge, 0);
+        } else if (challenge.getExerciseDistance() != null) {
+            updateDistanceProgress(challenge, 0);
+        } else if (challenge.getExerciseDuration() != null) {
+            updateDurationProgress(challenge, 0);
+        }
+        challengeContributionCache.invalidate(challengeId);
+        log.info("챌린지 {}의 누적 합계 재계산: {}", challengeId, total);
+    }
+
+
+    // TEAM 챌린지 progress 100 달성 시 전체 기록을 UPDATE 한 번으로 통과 처리 (챌린지당 한 번만 실행)
+    private void markTeamPassed(Challenge challenge) {
+        if (!"TEAM".equals(challenge.getType()) || challenge.isAllPassed()) {
+            return;
+        }
+        if (challengeRepository.markAllPassed(challenge.getId()) == 0) {
+            return;
+        }
+        int updated = challengeRecordRepository.updateIsPassedByChallengeId(challenge.getId());
+        log.info("챌린지 {}의 모든 멤버 isPassed = true ({}건)", challenge.getId(), updated);
     }
 
     //챌린지 기록 조회
@@ -458,11 +676,9 @@ public ChallengeRecordWithRankResponse getChallengeRecord(int memberId, int chal
             .orElseThrow(() -> new ChallengeRecordNotFoundException(
                     "challengeId: " + challengeId + "에 대한 챌린지 기록을 찾을 수 없습니다."));
 
-    // 같은 챌린지에 속한 모든 참가자의 기록을 가져옴
-    List<ChallengeRecord> challengeRecords = challengeRecordRepository.findByChallengeId(challengeId);
-
-    // 랭킹 계산
-    int rank = calculateRank(record, challengeRecords);
+    // Redis 랭킹에서 순위를 조회하고, 사용할 수 없으면 같은 챌린지의 모든 기록으로 계산
+    int rank = challengeLeaderboardService.findRank(record.getChallenge(), memberId)
+            .orElseGet(() -> calculateRank(record, challengeRecordRepository.findByChallengeId(challengeId)));
 
     // 기존 `fromEntity()` 메서드를 호출한 후, rank 값을 추가하여 반환
     ChallengeRecordWithRankResponse response = ChallengeRecordWithRankResponse.fromEntity(record);
@@ -472,52 +688,12 @@ public ChallengeRecordWithRankResponse getChallengeRecord(int memberId, int chal
 }
 
     private int calculateRank(ChallengeRecord record, List<ChallengeRecord> challengeRecords) {
-        // 챌린지 유형 가져오기
-        String challengeType = record.getChallenge().getType();
-
-        // 참가자의 기여도를 저장할 리스트
-        Map<Integer, Double> memberContributionMap = new HashMap<>();
-
-        for (ChallengeRecord cr : challengeRecords) {
-            int memberId = cr.getMemberId();
-
-            Double count = cr.getCount() != null ? cr.getCount().doubleValue() : null;
-            Double duration = cr.getDuration() != null ? cr.getDuration().doubleValue() : null;
-            Double distance = cr.getDistance() != null ? cr.getDistance().doubleValue() : null;
-
-            double bestValue;
-            if ("TEAM".equals(challengeType)) {
-                // TEAM 챌린지: 모든 날의 측정치를 합산
-                double totalValue = (count != null ? count : 0.0) +
-                        (duration != null ? duration : 0.0) +
-                        (distance != null ? distance : 0.0);
-                memberContributionMap.put(memberId, memberContributionMap.getOrDefault(memberId, 0.0) + totalValue);
-            } else {
-                // NORMAL, SURVIVAL 챌린지: 가장 높은 측정치를 기준으로 랭킹 결정
-                bestValue = (count != null) ? count : (duration != null) ? duration : (distance != null) ? distance : 0.0;
-                if (!memberContributionMap.containsKey(memberId) || memberContributionMap.get(memberId) < bestValue) {
-                    memberContributionMap.put(memberId, bestValue);
-                }
-            }
-        }
-
-        // 모든 참가자의 기여도를 리스트에 저장
-        List<Double> contributions = new ArrayList<>(memberContributionMap.values());
-
-        // 내 기여도 계산
-        Double myBestValue = memberContributionMap.getOrDefault(record.getMemberId(), 0.0);
-
-        // 내 기여도가 더 높은 순서대로 정렬 후, 내 순위 찾기
-        contributions.sort(Collections.reverseOrder());
-        int rank = contributions.indexOf(myBestValue) + 1; // 1등부터 시작하도록 설정
-
-        return rank;
+        return ChallengeRankCalculator.calculateRank(record.getChallenge().getType(), record.getMemberId(),
+                challengeRecords);
     }
 
-
-
-
     // 챌린지 참여
+    @Transactional
     public void joinChallenge(JoinChallengeRequest request) {
         Member member = userDetailsService.getMemberByContextHolder();
         Challenge challenge = challengeRepository.findById(request.getChallengeId())
@@ -572,217 +748,112 @@ public ChallengeRecordWithRankResponse getChallengeRecord(int memberId, int chal
         challengeMemberRepository.deleteByChallengeIdAndMemberId(challengeId, member.getId());
     }
 
+    // 조건부 UPDATE 한 번으로 정원 확인과 증가를 함께 처리 (동시 참여 시에도 정원 초과 없음)
     public void increaseParticipants(int challengeId) {
-        Challenge challenge = challengeRepository.findById(challengeId)
-                .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다."));
-
-        if (challenge.getCurrentParticipants() >= challenge.getMaxParticipants()) {
+        if (challengeRepository.increaseParticipants(challengeId) == 0) {
             throw new IllegalStateException("최대 인원 수에 도달했습니다.");
         }
-
-        challenge.setCurrentParticipants(challenge.getCurrentParticipants() + 1);
-        challengeRepository.save(challenge);
     }
 
     public void decreaseParticipants(int challengeId) {
-        Challenge challenge = challengeRepository.findById(challengeId)
-                .orElseThrow(() -> new ChallengeNotFoundException("존재하지 않는 챌린지 입니다."));
-
-        if (challenge.getCurrentParticipants() <= 0) {
+        if (challengeRepository.decreaseParticipants(challengeId) == 0) {
             throw new IllegalStateException("No participants to remove.");
         }
-
-        challenge.setCurrentParticipants(challenge.getCurrentParticipants() - 1);
-        challengeRepository.save(challenge);
     }
 
     // 내(트레이너)가 생성한 챌린지 목록
-    public List<ChallengeResponse> getCreatedChallenges() {
+    public Page<ChallengeResponse> getCreatedChallenges(Pageable pageable) {
         Member member = userDetailsService.getMemberByContextHolder();
-        List<Challenge> challenges = challengeRepository.findByHostId(member.getId());
-        return challenges.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        Pageable page = limitedPage(pageable);
+        return toResponsePage(challengeRepository.findByHostIdOrderByIdDesc(member.getId(), page), page);
     }
 
     // 내가 참여중인 챌린지 목록: challenge_member.status == "JOINED"
-    public List<ChallengeResponse> getParticipatingChallenges() {
-        Member member = userDetailsService.getMemberByContextHolder();
-        List<Integer> challengeIds = challengeMemberRepository.findChallengeIdsByMemberIdAndStatus(member.getId(),
-                "JOINED");
-        List<Challenge> challenges = challengeRepository.findByIdIn(challengeIds);
-        return challenges.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public Page<ChallengeResponse> getParticipatingChallenges(Pageable pageable) {
+        return getMyChallenges("JOINED", pageable);
     }
 
     // 내가 신청한 챌린지 목록 (예: status가 "APPLIED")
-    public List<ChallengeResponse> getAppliedChallenges() {
-        Member member = userDetailsService.getMemberByContextHolder();
-        List<Integer> challengeIds = challengeMemberRepository.findChallengeIdsByMemberIdAndStatus(member.getId(),
-                "APPLIED");
-        List<Challenge> challenges = challengeRepository.findByIdIn(challengeIds);
-        return challenges.stream().map(this::mapToResponse).collect(Collectors.toList());
+    public Page<ChallengeResponse> getAppliedChallenges(Pageable pageable) {
+        return getMyChallenges("APPLIED", pageable);
     }
 
     // 내가 참여했던 챌린지 목록: challenge_member.status == "END"
-    public List<ChallengeResponse> getPastChallenges() {
-        Member member = userDetailsService.getMemberByContextHolder();
-        List<Integer> challengeIds = challengeMemberRepository.findChallengeIdsByMemberIdAndStatus(member.getId(),
-                "END");
-        List<Challenge> challenges = challengeRepository.findByIdIn(challengeIds);
-        return challenges.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public Page<ChallengeResponse> getPastChallenges(Pageable pageable) {
+        return getMyChallenges("END", pageable);
     }
 
-
-    // 진행중인 챌린지 (전체, 날짜 조건: start_date ≤ 오늘 ≤ end_date)
-    public List<ChallengeResponse> getOngoingChallenges() {
-        Date now = new Date();
-        List<Challenge> challenges = challengeRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(now,
-                now);
-        return challenges.stream().map(this::mapToResponse).collect(Collectors.toList());
+    private Page<ChallengeResponse> getMyChallenges(String memberStatus, Pageable pageable) {
+        Member member = userDetailsService.getMemberByContextHolder();
+        Pageable page = limitedPage(pageable);
+        return toResponsePage(challengeRepository.findByMemberIdAndMemberStatus(member.getId(), memberStatus, page),
+                page);
     }
 
-    // 종료된 챌린지 (전체, 날짜 조건: end_date < 오늘)
-    public List<ChallengeResponse> getEndedChallenges() {
-        Date now = new Date();
-        List<Challenge> challenges = challengeRepository.findByEndDateLessThan(now);
-        return challenges.stream().map(this::mapToResponse).collect(Collectors.toList());
+    // 정렬은 쿼리에서 id 내림차순으로 고정, 페이지 크기는 커서 목록과 같은 상한 적용
+    private Pageable limitedPage(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return PageRequest.of(0, MAX_CURSOR_SIZE);
+        }
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_CURSOR_SIZE));
     }
 
-    // 개최예정인 챌린지 (전체, 날짜 조건: start_date > 오늘)
-    public List<ChallengeResponse> getUpcomingChallenges() {
-        Date now = new Date();
-        List<Challenge> challenges = challengeRepository.findByStartDateGreaterThan(now);
-        return challenges.stream().map(this::mapToResponse).collect(Collectors.toList());
+    private Page<ChallengeResponse> toResponsePage(Page<Challenge> challenges, Pageable pageable) {
+        return new PageImpl<>(challengeResponseAssembler.toResponses(challenges.getContent()), pageable,
+                challenges.getTotalElements());
     }
 
-    @Scheduled(cron = "10 0 0 * * *")
-    @Transactional
-    public void updateChallengeAndMember() {
-        Calendar cal = Calendar.getInstance();
-
-        // 하루 전 날짜 계산 (start_date 기준)
-        cal.setTime(new Date());
-        cal.add(Calendar.DATE, -1);
-        Date startTargetDate = cal.getTime();
-
-        // 하루 전 날짜 계산 (end_date 기준)
-        cal.setTime(new Date());
-        cal.add(Calendar.DATE, -1);
-        Date endTargetDate = cal.getTime();
-
-        log.info("챌린지 상태 변경 스케줄러 실행 (start_date 기준: {}, end_date 기준: {})", startTargetDate, endTargetDate);
-
-        // start_date가 오늘보다 하루 전인 챌린지를 PROGRESS 상태로 변경
-        List<Challenge> startingChallenges = challengeRepository.findByStartDateAndStatus(startTargetDate, "OPEN");
-
-        for (Challenge challenge : startingChallenges) {
-            log.info("진행 시작된 챌린지 ID: {}", challenge.getId());
-            List<ChallengeMember> members = challengeMemberRepository.findByChallengeId(challenge.getId());
-            challenge.setStatus("PROGRESS");
-
-            if (members.isEmpty()) {
-                log.info("챌린지 {}에 참가한 멤버가 없습니다.", challenge.getId());
-                challengeRepository.save(challenge);
-                continue;
-            }
 
-            for (ChallengeMember member : members) {
-                member.setStatus("JOINED");
-            }
-            challengeMemberRepository.saveAll(members);
-            challengeRepository.save(challenge);
-        }
-
-        // end_date가 오늘보다 하루 전인 챌린지를 ENDED 상태로 변경
-        List<Challenge> endingChallenges = challengeRepository.findByEndDateAndStatus(endTargetDate, "PROGRESS");
-
-        for (Challenge challenge : endingChallenges) {
-            log.info("종료된 챌린지 ID: {}", challenge.getId());
-
-            List<ChallengeMember> members = challengeMemberRepository.findByChallengeId(challenge.getId());
-            challenge.setStatus("END");
-
-            if (members.isEmpty()) {
-                log.info("챌린지 {}에 참가한 멤버가 없습니다.", challenge.getId());
-                challengeRepository.save(challenge);
-                continue;
-            }
+    // 진행중인 챌린지 (날짜 조건: start_date ≤ 오늘 ≤ end_date), 종료일이 가까운 순
+    public ChallengeCursorResponse getOngoingChallenges(LocalDate cursorDate, Integer cursorId, int size) {
+        validateCursor(cursorDate, cursorId);
+        LocalDate today = LocalDate.now();
+        List<Challenge> challenges = challengeRepository.findOngoingAfter(today,
+                cursorDate == null ? today : cursorDate, cursorId == null ? 0 : cursorId, cursorPage(size));
+        return toCursorResponse(challenges, size, Challenge::getEndDate);
+    }
 
-            for (ChallengeMember member : members) {
-                member.setStatus("ENDED");
-            }
-            challengeMemberRepository.saveAll(members);
+    // 종료된 챌린지 (날짜 조건: end_date < 오늘), 최근 종료 순
+    public ChallengeCursorResponse getEndedChallenges(LocalDate cursorDate, Integer cursorId, int size) {
+        validateCursor(cursorDate, cursorId);
+        LocalDate today = LocalDate.now();
+        List<Challenge> challenges = challengeRepository.findEndedBefore(today,
+                cursorDate == null ? today : cursorDate, cursorId == null ? 0 : cursorId, cursorPage(size));
+        return toCursorResponse(challenges, size, Challenge::getEndDate);
+    }
 
-            // 가장 높은 count, duration, distance를 기록한 멤버 찾기
-            int winnerId = findWinner(challenge, members);
+    // 개최예정인 챌린지 (날짜 조건: start_date > 오늘), 시작일이 가까운 순
+    public ChallengeCursorResponse getUpcomingChallenges(LocalDate cursorDate, Integer cursorId, int size) {
+        validateCursor(cursorDate, cursorId);
+        LocalDate today = LocalDate.now();
+        List<Challenge> challenges = challengeRepository.findUpcomingAfter(today,
+                cursorDate == null ? today : cursorDate, cursorId == null ? Integer.MAX_VALUE : cursorId,
+                cursorPage(size));
+        return toCursorResponse(challenges, size, Challenge::getStartDate);
+    }
 
-            if (winnerId != -1) {
-                challenge.setWinner(winnerId);
-                log.info("챌린지 {} 우승자: Member ID {}", challenge.getId(), winnerId);
-            }
-            challengeRepository.save(challenge);
+    // 커서는 (날짜, id) 둘 다 있거나 둘 다 없어야 한다 (하나만 있으면 같은 날짜의 챌린지를 건너뛰거나 중복 조회)
+    private void validateCursor(LocalDate cursorDate, Integer cursorId) {
+        if ((cursorDate == null) != (cursorId == null)) {
+            throw new ChallengeCursorException("cursorDate와 cursorId는 함께 전달해야 합니다.");
         }
     }
 
-    // 가장 높은 count, duration, distance를 기록한 멤버 찾기
-    private int findWinner(Challenge challenge, List<ChallengeMember> members) {
-        int winnerId = -1;
-
-        // 각 기준의 최댓값 저장
-        int maxCount = 0;
-        int maxDuration = 0;
-        int maxDistance = 0;
-
-        for (ChallengeMember member : members) {
-            int count = challengeRecordRepository.findCountByChallengeMemberId(member.getId()).orElse(0);
-            int duration = challengeRecordRepository.findDurationByChallengeMemberId(member.getId()).orElse(0);
-            int distance = challengeRecordRepository.findDistanceByChallengeMemberId(member.getId()).orElse(0);
-
-            if (challenge.getExerciseCount() != null && count > maxCount) {
-                maxCount = count;
-                winnerId = member.getMemberId();
-            }
-
-            if (challenge.getExerciseDuration() != null && duration > maxDuration) {
-                maxDuration = duration;
-                winnerId = member.getMemberId();
-            }
+    // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회
+    private Pageable cursorPage(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE) + 1);
+    }
 
-            if (challenge.getExerciseDistance() != null && distance > maxDistance) {
-                maxDistance = distance;
-                winnerId = member.getMemberId();
-            }
-        }
-        return winnerId;
-    }
-
-
-    // 엔티티 → DTO 매핑
-    private ChallengeResponse mapToResponse(Challenge challenge) {
-        return ChallengeResponse.builder()
-                .id(challenge.getId())
-                .type(challenge.getType())
-                .title(challenge.getTitle())
-                .description(challenge.getDescription())
-                .reward(challenge.getReward())
-                .templateId(challenge.getTemplateId())
-                .startDate(challenge.getStartDate())
-                .endDate(challenge.getEndDate())
-                .createdAt(challenge.getCreatedAt())
-                .status(challenge.getStatus())
-                .currentParticipants(challenge.getCurrentParticipants())
-                .maxParticipants(challenge.getMaxParticipants())
-                .frequency(challenge.getFrequency())
-                .imagePath(challenge.getImagePath())
-                .progress(challenge.getProgress())
-                .exerciseType(challenge.getExerciseType())
-                .exerciseCount(challenge.getExerciseCount())
-                .exerciseDistance(challenge.getExerciseDistance())
-                .exerciseDuration(challenge.getExerciseDuration())
-                .build();
+    private ChallengeCursorResponse toCursorResponse(List<Challenge> challenges, int size,
+                                                     Function<Challenge, LocalDate> cursorKey) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+        boolean hasNext = challenges.size() > limit;
+        List<Challenge> page = hasNext ? challenges.subList(0, limit) : challenges;
+        Challenge last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return new ChallengeCursorResponse(
+                challengeResponseAssembler.toResponses(page),
+                last == null ? null : cursorKey.apply(last),
+                last == null ? null : last.getId(),
+                hasNext);
     }
 }
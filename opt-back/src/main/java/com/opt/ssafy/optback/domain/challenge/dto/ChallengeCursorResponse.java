@@ -0,0 +1,16 @@
+package com.opt.ssafy.optback.domain.challenge.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서 기반 페이지 응답, 다음 페이지 요청 시 nextCursorDate/nextCursorId를 그대로 전달
+@Getter
+@AllArgsConstructor
+public class ChallengeCursorResponse {
+    private List<ChallengeResponse> challenges;
+    private LocalDate nextCursorDate;
+    private Integer nextCursorId;
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.opt.ssafy.optback.domain.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ChallengeLifecycleResult {
+    private int startedChallenges;
+    private int startedMembers;
+    private int endedChallenges;
+    private int endedMembers;
+    private int winners;
+    private int failedChunks;
+    private long elapsedMillis;
+}
@@ -1,7 +1,7 @@
 package com.opt.ssafy.optback.domain.challenge.dto;
 
 import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
-import com.opt.ssafy.optback.domain.member.entity.Member;
+import com.opt.ssafy.optback.domain.member.dto.MemberSummary;
 import java.time.LocalDate;
 import java.util.Date;
 import lombok.Builder;
@@ -35,7 +35,8 @@ public class ChallengeResponse {
     private Integer exerciseDuration;
     private Integer exerciseDistance;
 
-    public static ChallengeResponse from(Challenge challenge, Member host, String winnerNickname) {
+    // host가 탈퇴 등으로 조회되지 않으면 host 정보 없이 반환
+    public static ChallengeResponse from(Challenge challenge, MemberSummary host, String winnerNickname) {
         return ChallengeResponse.builder()
                 .id(challenge.getId())
                 .type(challenge.getType())
@@ -44,11 +45,11 @@ public class ChallengeResponse {
                 .reward(challenge.getReward())
                 .templateId(challenge.getTemplateId())
                 .winnerName(winnerNickname)
-                .hostNickname(host.getNickname())
-                .hostRealName(host.getName())
-                .hostImagePath(host.getImagePath())
+                .hostNickname(host == null ? null : host.getNickname())
+                .hostRealName(host == null ? null : host.getName())
+                .hostImagePath(host == null ? null : host.getImagePath())
                 .startDate(challenge.getStartDate())
-                .hostId(host.getId())
+                .hostId(challenge.getHostId())
                 .endDate(challenge.getEndDate())
                 .status(challenge.getStatus())
                 .createdAt(challenge.getCreatedAt())
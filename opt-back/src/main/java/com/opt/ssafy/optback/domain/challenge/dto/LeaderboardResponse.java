@@ -0,0 +1,13 @@
+package com.opt.ssafy.optback.domain.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardResponse {
+    private int rank;
+    private int memberId;
+    private String nickname;
+    private double measurement;
+}
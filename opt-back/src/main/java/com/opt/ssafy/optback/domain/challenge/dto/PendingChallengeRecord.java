@@ -0,0 +1,98 @@
+package com.opt.ssafy.optback.domain.challenge.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// write-behind 큐에 쌓인 (챌린지, 멤버, 날짜)별 기록
+// count/duration은 최고 기록, distance는 합계로 병합 (동기 저장 경로와 같은 규칙)
+// 이미 반영된 Stream 항목만 빼고 다시 병합할 수 있도록 항목별 값도 함께 보관
+@Getter
+public class PendingChallengeRecord {
+    private final int challengeId;
+    private final int memberId;
+    private final LocalDate day;
+    private Integer count;
+    private Integer duration;
+    private Integer distance;
+    // 반영 실패 횟수와 다음 재시도 시각 (epoch millis)
+    private int attempts;
+    private long retryAt;
+    @Getter(AccessLevel.NONE)
+    private final List<Entry> entries = new ArrayList<>();
+
+    public PendingChallengeRecord(int challengeId, int memberId, LocalDate day) {
+        this.challengeId = challengeId;
+        this.memberId = memberId;
+        this.day = day;
+    }
+
+    // 같은 Stream 항목을 다시 읽은 경우(재처리, 종료된 서버 항목 회수)는 한 번만 병합
+    public PendingChallengeRecord add(Integer newCount, Integer newDuration, Integer newDistance, String streamId) {
+        if (streamId != null && entries.stream().anyMatch(entry -> streamId.equals(entry.streamId))) {
+            return this;
+        }
+        if (newCount != null) {
+            count = (count == null) ? newCount : Math.max(count, newCount);
+        }
+        if (newDuration != null) {
+            duration = (duration == null) ? newDuration : Math.max(duration, newDuration);
+        }
+        if (newDistance != null) {
+            distance = (distance == null) ? newDistance : distance + newDistance;
+        }
+        entries.add(new Entry(streamId, newCount, newDuration, newDistance));
+        return this;
+    }
+
+    // 반영에 실패해 큐로 되돌릴 때 이후 들어온 기록과 합친다
+    public PendingChallengeRecord absorb(PendingChallengeRecord other) {
+        other.entries.forEach(entry -> add(entry.count, entry.duration, entry.distance, entry.streamId));
+        attempts = Math.max(attempts, other.attempts);
+        retryAt = Math.max(retryAt, other.retryAt);
+        return this;
+    }
+
+    // 이미 반영된 Stream 항목을 뺀 나머지 항목으로 다시 병합 (남은 항목이 없으면 빈 기록)
+    public PendingChallengeRecord without(Set<String> appliedStreamIds) {
+        PendingChallengeRecord remaining = new PendingChallengeRecord(challengeId, memberId, day);
+        remaining.attempts = attempts;
+        remaining.retryAt = retryAt;
+        for (Entry entry : entries) {
+            if (entry.streamId == null || !appliedStreamIds.contains(entry.streamId)) {
+                remaining.add(entry.count, entry.duration, entry.distance, entry.streamId);
+            }
+        }
+        return remaining;
+    }
+
+    public void recordFailure(long nextRetryAt) {
+        attempts++;
+        retryAt = nextRetryAt;
+    }
+
+    public List<String> getStreamIds() {
+        return entries.stream().map(entry -> entry.streamId).filter(Objects::nonNull).toList();
+    }
+
+    public int getSubmissions() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final String streamId;
+        private final Integer count;
+        private final Integer duration;
+        private final Integer distance;
+    }
+}
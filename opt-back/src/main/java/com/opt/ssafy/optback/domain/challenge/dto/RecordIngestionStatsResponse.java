@@ -0,0 +1,17 @@
+package com.opt.ssafy.optback.domain.challenge.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecordIngestionStatsResponse {
+    private boolean enabled;
+    private long submitted;
+    private long flushedSubmissions;
+    private long flushedRows;
+    private long deadLettered;
+    private int pending;
+    // 반영된 요청 수 / 실제 저장된 행 수
+    private double coalescingRatio;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
@@ -26,7 +27,10 @@ import org.hibernate.annotations.DynamicInsert;
 @DynamicInsert
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "challenge")
+@Table(name = "challenge", indexes = {
+        @Index(name = "idx_challenge_start_date_id", columnList = "start_date, id"),
+        @Index(name = "idx_challenge_end_date_id", columnList = "end_date, id")
+})
 public class Challenge {
 
     @Id
@@ -71,7 +75,8 @@ public class Challenge {
     @Column(name = "created_at", insertable = false, updatable = false)
     private Date createdAt;
 
-    @Column(name = "current_participants")
+    // 참가 인원은 조건부 UPDATE로만 변경 (동시 참여 시 정원 초과 방지)
+    @Column(name = "current_participants", updatable = false)
     private Integer currentParticipants;
 
     @Column(name = "max_participants")
@@ -83,6 +88,14 @@ public class Challenge {
     @Column(name = "progress")
     private Float progress;
 
+    // TEAM 챌린지의 누적 기록 합계. 기록 저장 시 증가분만 반영하며, 동시 갱신을 위해 엔티티 저장으로는 덮어쓰지 않음
+    @Column(name = "progress_total", updatable = false)
+    private Integer progressTotal;
+
+    // TEAM 챌린지 달성 후 전체 기록의 is_passed 일괄 갱신 여부. 한 번만 실행되도록 조건부 UPDATE로만 변경
+    @Column(name = "all_passed", nullable = false, updatable = false, columnDefinition = "boolean default false")
+    private boolean allPassed;
+
     @Column(name = "image_path", columnDefinition = "char(255)")
     private String imagePath;
 
@@ -105,10 +118,6 @@ public class Challenge {
         winnerId = id;
     }
 
-    public void setCurrentParticipants(int i) {
-        currentParticipants = i;
-    }
-
     public void setProgress(float newProgress) {
         progress = newProgress;
     }
@@ -132,6 +141,8 @@ public class Challenge {
                 .maxParticipants(request.getMax_participants())
                 .frequency(request.getFrequency())
                 .progress(0F)
+                .progressTotal(0)
+                .allPassed(false)
                 .imagePath(request.getImagePath())
                 .exerciseType(request.getExercise_type())
                 .exerciseCount(request.getExercise_count())
@@ -0,0 +1,57 @@
+package com.opt.ssafy.optback.domain.challenge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// write-behind 큐에서 DB에 반영을 마친 Redis Stream 항목 ID
+// 기록 반영과 같은 트랜잭션에 저장하므로, Stream에서 지우기 전에 죽어도 재시작 시 같은 항목을 두 번 더하지 않는다
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "challenge_record_ingestion", indexes = {
+        @Index(name = "idx_challenge_record_ingestion_applied_at", columnList = "applied_at")
+})
+public class ChallengeRecordIngestion implements Persistable<String> {
+
+    @Id
+    @Column(name = "stream_id", length = 40)
+    private String streamId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    // 항상 새 ID만 저장하므로 saveAll이 merge 전 SELECT를 하지 않도록 직접 판단
+    @Transient
+    private boolean isNew = true;
+
+    public ChallengeRecordIngestion(String streamId, LocalDateTime appliedAt) {
+        this.streamId = streamId;
+        this.appliedAt = appliedAt;
+    }
+
+    @Override
+    public String getId() {
+        return streamId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -0,0 +1,7 @@
+package com.opt.ssafy.optback.domain.challenge.exception;
+
+public class ChallengeCursorException extends RuntimeException {
+    public ChallengeCursorException(String message) {
+        super(message);
+    }
+}
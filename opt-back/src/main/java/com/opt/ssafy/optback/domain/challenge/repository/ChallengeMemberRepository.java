@@ -1,10 +1,13 @@
 package com.opt.ssafy.optback.domain.challenge.repository;
 
 import com.opt.ssafy.optback.domain.challenge.entity.ChallengeMember;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +17,12 @@ import org.springframework.stereotype.Repository;
 public interface ChallengeMemberRepository extends JpaRepository<ChallengeMember, Integer> {
     Optional<ChallengeMember> findByChallengeIdAndMemberId(int challengeId, int memberId);
 
+    // 기록 저장 시 참여 행을 잠가 같은 멤버의 동시 기록을 직렬화 (오늘 기록이 아직 없을 때도 적용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cm FROM ChallengeMember cm WHERE cm.challengeId = :challengeId AND cm.memberId = :memberId")
+    Optional<ChallengeMember> findForUpdateByChallengeIdAndMemberId(@Param("challengeId") int challengeId,
+                                                                    @Param("memberId") int memberId);
+
 
     //ChallengeMember 엔티티 대신, 특정 컬럼(여기서는 challengeId)만 선택하도록 JPQL 쿼리를 직접 작성, 그렇지 않으면 엔티티 전체를 받아와서 Integer type만 받아올 수 없음
     @Query("SELECT cm.challengeId FROM ChallengeMember cm WHERE cm.memberId = :memberId AND cm.status = :status")
@@ -29,4 +38,19 @@ public interface ChallengeMemberRepository extends JpaRepository<ChallengeMember
 
     List<ChallengeMember> findByChallengeId(int id);
 
+    List<ChallengeMember> findByChallengeIdInAndMemberIdIn(Collection<Integer> challengeIds,
+                                                           Collection<Integer> memberIds);
+
+    // write-behind 일괄 반영용, 교착을 피하도록 id 순으로 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cm FROM ChallengeMember cm WHERE cm.challengeId IN :challengeIds AND cm.memberId IN :memberIds "
+            + "ORDER BY cm.id")
+    List<ChallengeMember> findForUpdateByChallengeIdInAndMemberIdIn(
+            @Param("challengeIds") Collection<Integer> challengeIds, @Param("memberIds") Collection<Integer> memberIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChallengeMember cm SET cm.status = :status WHERE cm.challengeId IN :challengeIds")
+    int updateStatusByChallengeIdIn(@Param("challengeIds") List<Integer> challengeIds, @Param("status") String status);
+
 }
@@ -0,0 +1,25 @@
+package com.opt.ssafy.optback.domain.challenge.repository;
+
+import com.opt.ssafy.optback.domain.challenge.entity.ChallengeRecordIngestion;
+import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChallengeRecordIngestionRepository extends JpaRepository<ChallengeRecordIngestion, String> {
+
+    // 이미 반영된 Stream 항목 ID
+    @Query("SELECT i.streamId FROM ChallengeRecordIngestion i WHERE i.streamId IN :streamIds")
+    List<String> findAppliedStreamIds(@Param("streamIds") Collection<String> streamIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ChallengeRecordIngestion i WHERE i.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,10 +2,13 @@ package com.opt.ssafy.optback.domain.challenge.repository;
 
 import com.opt.ssafy.optback.domain.challenge.entity.ChallengeMember;
 import com.opt.ssafy.optback.domain.challenge.entity.ChallengeRecord;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +24,10 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
 
     Optional<ChallengeRecord> findByChallengeMemberAndCreatedAt(ChallengeMember challengeMember, Date today);
 
+    @Query("SELECT c FROM ChallengeRecord c WHERE c.challengeMember.id IN :challengeMemberIds AND c.createdAt IN :days")
+    List<ChallengeRecord> findByChallengeMemberIdInAndCreatedAtIn(
+            @Param("challengeMemberIds") Collection<Integer> challengeMemberIds, @Param("days") Collection<Date> days);
+
     @Query("SELECT c.count FROM ChallengeRecord c WHERE c.challengeMember.id = :challengeMemberId")
     Optional<Integer> findCountByChallengeMemberId(@Param("challengeMemberId") int challengeMemberId);
 
@@ -38,6 +45,18 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
 
     List<ChallengeRecord> findByChallengeId(int challengeId);
 
+    // 랭킹 재구성용: [memberId, 기록 합계] (TEAM)
+    @Query("SELECT c.memberId, SUM(COALESCE(c.count, c.duration, c.distance)) FROM ChallengeRecord c WHERE c.challenge.id = :challengeId GROUP BY c.memberId")
+    List<Object[]> sumMeasurementGroupByMemberId(@Param("challengeId") int challengeId);
+
+    // 랭킹 재구성용: [memberId, 최고 기록] (NORMAL, SURVIVAL)
+    @Query("SELECT c.memberId, MAX(COALESCE(c.count, c.duration, c.distance)) FROM ChallengeRecord c WHERE c.challenge.id = :challengeId GROUP BY c.memberId")
+    List<Object[]> maxMeasurementGroupByMemberId(@Param("challengeId") int challengeId);
+
+    // TEAM 챌린지 누적 합계 재계산용 (count, duration, distance 중 NOT NULL인 값만 합산)
+    @Query("SELECT COALESCE(SUM(COALESCE(c.count, c.duration, c.distance)), 0) FROM ChallengeRecord c WHERE c.challenge.id = :challengeId")
+    long sumMeasurementByChallengeId(@Param("challengeId") int challengeId);
+
 
     @Query("SELECT SUM(cr.duration) FROM ChallengeRecord cr WHERE cr.challengeMember.id = :challengeMemberId")
     Optional<Integer> findDurationByChallengeMemberId(@Param("challengeMemberId") int challengeMemberId);
@@ -55,5 +74,23 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
     List<Object[]> findAllContributionsByChallengeId(@Param("challengeId") int challengeId);
 
     int countByMemberIdAndIsPassedTrue(int memberId);
-}
 
+    // 종료 챌린지 우승자 계산용: [challengeId, memberId, 목표 항목 기록] (count는 최고 기록, duration/distance는 합계)
+    @Query("""
+                SELECT c.id, cr.memberId,
+                       CASE WHEN c.exerciseCount IS NOT NULL THEN MAX(cr.count)
+                            WHEN c.exerciseDuration IS NOT NULL THEN SUM(cr.duration)
+                            ELSE SUM(cr.distance) END
+                FROM ChallengeRecord cr
+                JOIN cr.challenge c
+                WHERE c.id IN :challengeIds
+                GROUP BY c.id, cr.memberId, c.exerciseCount, c.exerciseDuration
+                ORDER BY c.id, cr.memberId
+            """)
+    List<Object[]> findWinnerCandidatesByChallengeIdIn(@Param("challengeIds") List<Integer> challengeIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ChallengeRecord cr SET cr.isPassed = true WHERE cr.challenge.id = :challengeId AND cr.isPassed = false")
+    int updateIsPassedByChallengeId(@Param("challengeId") int challengeId);
+}
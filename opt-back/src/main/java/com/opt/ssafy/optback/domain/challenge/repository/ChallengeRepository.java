@@ -1,25 +1,65 @@
 package com.opt.ssafy.optback.domain.challenge.repository;
 
 import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
+import jakarta.transaction.Transactional;
+import java.time.LocalDate;
 import java.util.Date;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChallengeRepository extends JpaRepository<Challenge, Integer> {
-    List<Challenge> findByHostId(int hostId);
+    Page<Challenge> findByHostIdOrderByIdDesc(int hostId, Pageable pageable);
 
-    List<Challenge> findByStartDateLessThanEqualAndEndDateGreaterThanEqual(Date startDateIsLessThan,
-                                                                           Date endDateIsGreaterThan);
+    // challenge_member 상태별 내 챌린지, 최신 챌린지 순
+    @Query(value = """
+                SELECT c FROM Challenge c
+                WHERE c.id IN (SELECT cm.challengeId FROM ChallengeMember cm
+                               WHERE cm.memberId = :memberId AND cm.status = :status)
+                ORDER BY c.id DESC
+            """,
+            countQuery = """
+                SELECT COUNT(DISTINCT cm.challengeId) FROM ChallengeMember cm
+                WHERE cm.memberId = :memberId AND cm.status = :status
+            """)
+    Page<Challenge> findByMemberIdAndMemberStatus(@Param("memberId") int memberId, @Param("status") String status,
+                                                  Pageable pageable);
 
-    List<Challenge> findByEndDateLessThan(Date endDateIsLessThan);
+    // 진행중인 챌린지: (end_date, id) 오름차순 커서
+    @Query("""
+                SELECT c FROM Challenge c
+                WHERE c.startDate <= :today AND c.endDate >= :today
+                  AND (c.endDate > :cursorDate OR (c.endDate = :cursorDate AND c.id > :cursorId))
+                ORDER BY c.endDate ASC, c.id ASC
+            """)
+    List<Challenge> findOngoingAfter(@Param("today") LocalDate today, @Param("cursorDate") LocalDate cursorDate,
+                                     @Param("cursorId") int cursorId, Pageable pageable);
 
-    List<Challenge> findByStartDateGreaterThan(Date startDateIsGreaterThan);
+    // 종료된 챌린지: (end_date, id) 내림차순 커서
+    @Query("""
+                SELECT c FROM Challenge c
+                WHERE c.endDate < :today
+                  AND (c.endDate < :cursorDate OR (c.endDate = :cursorDate AND c.id < :cursorId))
+                ORDER BY c.endDate DESC, c.id DESC
+            """)
+    List<Challenge> findEndedBefore(@Param("today") LocalDate today, @Param("cursorDate") LocalDate cursorDate,
+                                    @Param("cursorId") int cursorId, Pageable pageable);
+
+    // 개최예정 챌린지: (start_date, id) 오름차순 커서
+    @Query("""
+                SELECT c FROM Challenge c
+                WHERE c.startDate > :today
+                  AND (c.startDate > :cursorDate OR (c.startDate = :cursorDate AND c.id > :cursorId))
+                ORDER BY c.startDate ASC, c.id ASC
+            """)
+    List<Challenge> findUpcomingAfter(@Param("today") LocalDate today, @Param("cursorDate") LocalDate cursorDate,
+                                      @Param("cursorId") int cursorId, Pageable pageable);
 
     List<Challenge> findByIdIn(List<Integer> challengeIds);
 
@@ -32,4 +72,59 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Integer> {
 
     Page<Challenge> findAllByStatusOrderByIdDesc(String status, Pageable pageable);
 
+    List<Challenge> findByStatus(String status);
+
+    @Query("SELECT c.id FROM Challenge c WHERE c.startDate = :startDate AND c.status = :status")
+    List<Integer> findIdsByStartDateAndStatus(@Param("startDate") LocalDate startDate, @Param("status") String status);
+
+    @Query("SELECT c.id FROM Challenge c WHERE c.endDate = :endDate AND c.status = :status")
+    List<Integer> findIdsByEndDateAndStatus(@Param("endDate") LocalDate endDate, @Param("status") String status);
+
+    // progress_total 컬럼 추가 전에 만들어져 누적 합계가 비어 있는 TEAM 챌린지
+    @Query("SELECT c.id FROM Challenge c WHERE c.type = 'TEAM' AND c.progressTotal IS NULL")
+    List<Integer> findTeamIdsWithoutProgressTotal();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.status = :status WHERE c.id IN :challengeIds")
+    int updateStatusByIdIn(@Param("challengeIds") List<Integer> challengeIds, @Param("status") String status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.winnerId = :winnerId WHERE c.id = :challengeId")
+    int updateWinner(@Param("challengeId") int challengeId, @Param("winnerId") int winnerId);
+
+    // 정원 미만일 때만 참가 인원 1 증가, 갱신된 행이 없으면 정원 마감
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.currentParticipants = c.currentParticipants + 1 "
+            + "WHERE c.id = :challengeId AND c.currentParticipants < c.maxParticipants")
+    int increaseParticipants(@Param("challengeId") int challengeId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.currentParticipants = c.currentParticipants - 1 "
+            + "WHERE c.id = :challengeId AND c.currentParticipants > 0")
+    int decreaseParticipants(@Param("challengeId") int challengeId);
+
+    // TEAM 챌린지 누적 합계에 증가분만 원자적으로 반영
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.progressTotal = COALESCE(c.progressTotal, 0) + :delta WHERE c.id = :challengeId")
+    int addProgressTotal(@Param("challengeId") int challengeId, @Param("delta") int delta);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.progressTotal = :total WHERE c.id = :challengeId")
+    int updateProgressTotal(@Param("challengeId") int challengeId, @Param("total") int total);
+
+    @Query("SELECT COALESCE(c.progressTotal, 0) FROM Challenge c WHERE c.id = :challengeId")
+    int findProgressTotalById(@Param("challengeId") int challengeId);
+
+    // TEAM 챌린지 일괄 달성 처리 선점, 이미 처리된 챌린지면 0
+    @Modifying
+    @Transactional
+    @Query("UPDATE Challenge c SET c.allPassed = true WHERE c.id = :challengeId AND c.allPassed = false")
+    int markAllPassed(@Param("challengeId") int challengeId);
+
 }
@@ -1,15 +1,13 @@
 package com.opt.ssafy.optback.domain.chat.controller;
 
 import com.opt.ssafy.optback.domain.chat.dto.ChatMessageResponse;
+import com.opt.ssafy.optback.domain.chat.dto.ChatMessageSliceResponse;
 import com.opt.ssafy.optback.domain.chat.dto.ChatRoomResponse;
 import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
 import com.opt.ssafy.optback.domain.chat.service.ChatMessageService;
 import com.opt.ssafy.optback.domain.chat.service.ChatRoomService;
-import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,21 +35,23 @@ public class ChatRoomController {
     // 사용자의 채팅방 목록 조회
     @GetMapping("/list")
     public ResponseEntity<Page<ChatRoomResponse>> getUserRooms(Pageable pageable) {
-        List<ChatRoomResponse> chatRooms = chatRoomService.getUserChatRooms();
-
-        return ResponseEntity.ok(convertListToPage(chatRooms, pageable));
+        return ResponseEntity.ok(chatRoomService.getUserChatRooms(pageable));
     }
 
     // 특정 채팅방의 메시지 조회
     @GetMapping("/message")
     public ResponseEntity<Page<ChatMessageResponse>> getChatRoomMessages(@RequestParam String roomId,
                                                                          Pageable pageable) {
-        List<ChatMessageResponse> messages = chatMessageService.getMessagesByRoomId(roomId)
-                .stream()
-                .map(ChatMessageResponse::new)
-                .collect(Collectors.toList());
+        return ResponseEntity.ok(chatMessageService.getMessagesByRoomId(roomId, pageable)
+                .map(ChatMessageResponse::new));
+    }
 
-        return ResponseEntity.ok(convertListToPage(messages, pageable));
+    // 특정 채팅방의 메시지 커서 조회 (최신 순, 다음 페이지는 nextCursor를 before로)
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<ChatMessageSliceResponse> getChatRoomMessagesBefore(@PathVariable String roomId,
+                                                                              @RequestParam(required = false) String before,
+                                                                              @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(chatMessageService.getMessagesBefore(roomId, before, limit));
     }
 
     @PostMapping("/leave/{roomId}")
@@ -66,11 +66,8 @@ public class ChatRoomController {
         return ResponseEntity.ok("채팅방의 모든 메시지를 읽음 처리하였습니다.");
     }
 
-    // Pageable 변환용 메서드
-    private <T> Page<T> convertListToPage(List<T> list, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-        List<T> subList = list.subList(start, end);
-        return new PageImpl<>(subList, pageable, list.size());
+    @GetMapping("/{roomId}/unread-count")
+    public ResponseEntity<Integer> getUnreadCount(@PathVariable String roomId) {
+        return ResponseEntity.ok(chatMessageService.getUnreadCount(roomId));
     }
 }
@@ -1,11 +1,15 @@
 package com.opt.ssafy.optback.domain.chat.controller;
 
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastStatsResponse;
 import com.opt.ssafy.optback.domain.chat.dto.SystemMessageToMember;
 import com.opt.ssafy.optback.domain.chat.dto.SystemMessageToRoom;
+import com.opt.ssafy.optback.domain.chat.infrastructure.ChatBroadcaster;
 import com.opt.ssafy.optback.domain.chat.service.SystemMessageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SystemMessageController {
 
     private final SystemMessageService systemMessageService;
+    private final ChatBroadcaster chatBroadcaster;
 
     // 특정 멤버에게 메시지 전송
     @PostMapping("/member")
@@ -34,4 +39,11 @@ public class SystemMessageController {
         systemMessageService.sendSystemMessageToRoom(request);
         return ResponseEntity.ok("📩 시스템 메시지를 채팅방 전체에게 성공적으로 전송했습니다.");
     }
+
+    // 이 서버의 채팅 메시지 전달(서버 간 전파) 통계
+    @GetMapping("/broadcast-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ChatBroadcastStatsResponse> getBroadcastStats() {
+        return ResponseEntity.ok(chatBroadcaster.getStats());
+    }
 }
@@ -0,0 +1,17 @@
+package com.opt.ssafy.optback.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 서버 간 채팅 메시지 전파 단위 (Redis pub/sub), body는 STOMP 메시지 본문 그대로
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBroadcastEnvelope {
+
+    private String origin;
+    private String destination;
+    private String contentType;
+    private String body;
+}
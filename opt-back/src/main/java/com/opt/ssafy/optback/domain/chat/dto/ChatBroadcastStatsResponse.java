@@ -0,0 +1,19 @@
+package com.opt.ssafy.optback.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 이 서버 기준 채팅 메시지 전달 통계
+@Getter
+@AllArgsConstructor
+public class ChatBroadcastStatsResponse {
+    private String mode;
+    private String nodeId;
+    // 다른 서버로 발행한 메시지 수
+    private long published;
+    // 이 서버에서 보낸 메시지를 이 서버 구독자에게 전달한 수
+    private long localDelivered;
+    // 다른 서버에서 받은 메시지를 이 서버 구독자에게 전달한 수
+    private long remoteDelivered;
+    private long failures;
+}
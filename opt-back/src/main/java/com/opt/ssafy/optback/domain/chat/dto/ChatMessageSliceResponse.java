@@ -0,0 +1,14 @@
+package com.opt.ssafy.optback.domain.chat.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서 기반 메시지 조회 결과 (최신 순), 다음 페이지 요청 시 nextCursor를 before로 전달
+@Getter
+@AllArgsConstructor
+public class ChatMessageSliceResponse {
+    private List<ChatMessageResponse> messages;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,14 @@
+package com.opt.ssafy.optback.domain.chat.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 읽음 처리 알림: memberId가 lastReadAt 이전(포함)에 생성된 메시지를 모두 읽음
+@Getter
+@AllArgsConstructor
+public class ChatReadStatusResponse {
+    private String roomId;
+    private int memberId;
+    private LocalDateTime lastReadAt;
+}
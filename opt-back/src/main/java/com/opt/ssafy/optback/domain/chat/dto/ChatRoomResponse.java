@@ -1,6 +1,5 @@
 package com.opt.ssafy.optback.domain.chat.dto;
 
-import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
 import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,14 +18,16 @@ public class ChatRoomResponse {
     private String otherMemberNickname;
     private String lastMessage;
     private LocalDateTime lastMessageTime;
+    private int unreadCount;
 
-    public ChatRoomResponse(ChatRoom chatRoom, String otherMemberNickname, ChatMessage chatMessage) {
+    public ChatRoomResponse(ChatRoom chatRoom, String otherMemberNickname, int memberId) {
         this.id = chatRoom.getId();
         this.roomName = chatRoom.getRoomName();
         this.participants = chatRoom.getParticipants();
         this.otherMemberNickname = otherMemberNickname;
-        this.lastMessage = chatMessage.getContent();
-        this.lastMessageTime = chatMessage.getCreatedAt();
+        this.lastMessage = chatRoom.getLastMessageAt() != null ? chatRoom.getLastMessage() : "대화 없음";
+        this.lastMessageTime = chatRoom.getLastMessageAt();
+        this.unreadCount = chatRoom.getUnreadCount(memberId);
     }
 
     public ChatRoomResponse(ChatRoom chatRoom) {
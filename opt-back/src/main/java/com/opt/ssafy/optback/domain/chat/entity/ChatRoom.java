@@ -1,12 +1,15 @@
 package com.opt.ssafy.optback.domain.chat.entity;
 
 import jakarta.persistence.Id;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 @Getter
 @NoArgsConstructor
@@ -19,11 +22,24 @@ public class ChatRoom {
     private String id;
     private String roomName;
     private List<Integer> participants;
+    // 마지막 메시지 요약 (채팅방 목록 정렬/표시용), 메시지 저장 시 갱신
+    // 메시지가 없는 방도 null로 저장해 요약 초기화 대상(필드 없음)과 구분
+    @Field(write = Field.Write.ALWAYS)
+    private String lastMessage;
+    @Field(write = Field.Write.ALWAYS)
+    private LocalDateTime lastMessageAt;
+    // 참여자별 읽지 않은 메시지 수, 마지막으로 읽은 시각 (키: 회원 id)
+    private Map<String, Integer> unreadCounts;
+    private Map<String, LocalDateTime> lastReadAt;
 
     public void setParticipants(List<Integer> participants) {
         this.participants = participants;
     }
 
+    public int getUnreadCount(int memberId) {
+        return unreadCounts == null ? 0 : unreadCounts.getOrDefault(String.valueOf(memberId), 0);
+    }
+
     public static String generateRoomName(int user1, int user2) {
         return user1 < user2 ? user1 + "_" + user2 : user2 + "_" + user1;
     }
@@ -0,0 +1,12 @@
+package com.opt.ssafy.optback.domain.chat.infrastructure;
+
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastStatsResponse;
+
+// 채팅 STOMP 구독자(/topic/...)에게 메시지 전달
+// chat.broadcast.mode=local(기본)이면 이 서버에만, redis면 Redis pub/sub으로 모든 서버의 구독자에게 전달
+public interface ChatBroadcaster {
+
+    void broadcast(String destination, Object payload);
+
+    ChatBroadcastStatsResponse getStats();
+}
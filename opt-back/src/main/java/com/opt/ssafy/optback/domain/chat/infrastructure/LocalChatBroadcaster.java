@@ -0,0 +1,30 @@
+package com.opt.ssafy.optback.domain.chat.infrastructure;
+
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastStatsResponse;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// 서버 한 대 또는 테스트용: 이 서버의 simple broker로만 전달
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broadcast.mode", havingValue = "local", matchIfMissing = true)
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        simpMessagingTemplate.convertAndSend(destination, payload);
+        delivered.incrementAndGet();
+    }
+
+    @Override
+    public ChatBroadcastStatsResponse getStats() {
+        return new ChatBroadcastStatsResponse("local", null, 0, delivered.get(), 0, 0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.opt.ssafy.optback.domain.chat.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastEnvelope;
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastStatsResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+// 서버 여러 대 구성: 이 서버의 구독자에게 바로 전달하고, Redis pub/sub으로 다른 서버에 전파한다
+// payload는 STOMP 메시지 변환기로 한 번만 직렬화해 모든 서버가 같은 본문을 보낸다
+// Redis 발행에 실패해도 이 서버의 구독자에게는 전달된다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broadcast.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+
+    public static final String CHANNEL = "chat:broadcast";
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong localDelivered = new AtomicLong();
+    private final AtomicLong remoteDelivered = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        org.springframework.messaging.Message<?> message =
+                simpMessagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (message == null) {
+            throw new IllegalArgumentException("STOMP 메시지로 변환할 수 없는 payload: " + payload.getClass());
+        }
+        String body = message.getPayload() instanceof byte[] bytes
+                ? new String(bytes, StandardCharsets.UTF_8)
+                : String.valueOf(message.getPayload());
+        Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+        ChatBroadcastEnvelope envelope = new ChatBroadcastEnvelope(nodeId, destination,
+                contentType != null ? contentType.toString() : null, body);
+
+        deliver(envelope);
+        localDelivered.incrementAndGet();
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+            published.incrementAndGet();
+        } catch (JsonProcessingException | DataAccessException e) {
+            failures.incrementAndGet();
+            log.warn("채팅 메시지 전파 실패 (다른 서버의 구독자에게는 전달되지 않음): {}", destination, e);
+        }
+    }
+
+    // 다른 서버에서 발행한 메시지를 이 서버의 구독자에게 전달 (자기가 발행한 메시지는 이미 전달했으므로 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatBroadcastEnvelope envelope = objectMapper.readValue(message.getBody(), ChatBroadcastEnvelope.class);
+            if (nodeId.equals(envelope.getOrigin())) {
+                return;
+            }
+            deliver(envelope);
+            remoteDelivered.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            log.warn("전파된 채팅 메시지 전달 실패", e);
+        }
+    }
+
+    @Override
+    public ChatBroadcastStatsResponse getStats() {
+        return new ChatBroadcastStatsResponse("redis", nodeId, published.get(), localDelivered.get(),
+                remoteDelivered.get(), failures.get());
+    }
+
+    // 이미 직렬화된 본문이므로 변환기를 거치지 않고 그대로 보낸다
+    private void deliver(ChatBroadcastEnvelope envelope) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (envelope.getContentType() != null) {
+            accessor.setContentType(MimeType.valueOf(envelope.getContentType()));
+        }
+        accessor.setLeaveMutable(true);
+        simpMessagingTemplate.send(envelope.getDestination(), MessageBuilder.createMessage(
+                envelope.getBody().getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+    }
+}
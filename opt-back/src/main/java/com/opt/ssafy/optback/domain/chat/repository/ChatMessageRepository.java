@@ -2,18 +2,33 @@ package com.opt.ssafy.optback.domain.chat.repository;
 
 import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
 import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 public interface ChatMessageRepository extends MongoRepository<ChatMessage, Integer> {
 
-    // 채팅방 메시지를 오래된 순으로 조회
-    List<ChatMessage> findByRoomIdOrderByCreatedAtAsc(String roomId);
+    // 채팅방 메시지 페이지 조회 (정렬은 pageable로)
+    Page<ChatMessage> findByRoomId(String roomId, Pageable pageable);
+
+    // 커서 메시지 조회 (다른 채팅방의 메시지 id는 커서로 쓸 수 없음)
+    Optional<ChatMessage> findByIdAndRoomId(String id, String roomId);
+
+    // 커서(createdAt, _id)보다 이전 메시지 (정렬은 pageable로)
+    @Query("{ 'roomId': ?0, '$or': [ { 'createdAt': { '$lt': ?1 } }, { 'createdAt': ?1, '_id': { '$lt': ?2 } } ] }")
+    List<ChatMessage> findByRoomIdBefore(String roomId, LocalDateTime createdAt, ObjectId id, Pageable pageable);
+
+    // 커서 없이 첫 페이지 (정렬은 pageable로)
+    List<ChatMessage> findLatestByRoomId(String roomId, Pageable pageable);
 
     // 가장 최근에 보낸 메시지 1개 조회
     Optional<ChatMessage> findTopByRoomIdOrderByCreatedAtDesc(String roomId);
 
-    // 특정 채팅방에서 특정 사용자가 읽지 않은 메시지 조회
-    List<ChatMessage> findByRoomIdAndReadByMembersNotContaining(String roomId, int memberId);
+    // 특정 채팅방에서 특정 사용자가 읽지 않은 (다른 사람이 보낸) 메시지 수
+    long countByRoomIdAndSenderIdNotAndReadByMembersNotContaining(String roomId, int senderId, int memberId);
 
 }
@@ -3,6 +3,8 @@ package com.opt.ssafy.optback.domain.chat.repository;
 import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 public interface ChatRoomRepository extends
@@ -12,4 +14,11 @@ public interface ChatRoomRepository extends
     List<ChatRoom> findByRoomName(String roomName);
 
     Optional<ChatRoom> findById(String id);
+
+    // 사용자의 채팅방을 최근 메시지 순으로 (인덱스 participants, lastMessageAt)
+    Page<ChatRoom> findByParticipantsContainingOrderByLastMessageAtDesc(int memberId, Pageable pageable);
+
+    // 요약 필드(읽지 않은 메시지 수, 마지막 메시지)가 아직 없는 채팅방
+    List<ChatRoom> findByUnreadCountsExistsOrLastMessageAtExists(boolean unreadCountsExists,
+                                                                 boolean lastMessageAtExists);
 }
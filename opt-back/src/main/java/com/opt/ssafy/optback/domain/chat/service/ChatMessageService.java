@@ -2,10 +2,13 @@ package com.opt.ssafy.optback.domain.chat.service;
 
 import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
 import com.opt.ssafy.optback.domain.chat.dto.ChatMessageRequest;
+import com.opt.ssafy.optback.domain.chat.dto.ChatMessageResponse;
+import com.opt.ssafy.optback.domain.chat.dto.ChatMessageSliceResponse;
 import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
 import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
 import com.opt.ssafy.optback.domain.chat.exception.ChatMessageException;
 import com.opt.ssafy.optback.domain.chat.exception.ChatRoomException;
+import com.opt.ssafy.optback.domain.chat.infrastructure.ChatBroadcaster;
 import com.opt.ssafy.optback.domain.chat.repository.ChatMessageRepository;
 import com.opt.ssafy.optback.domain.chat.repository.ChatRoomRepository;
 import java.time.LocalDateTime;
@@ -13,7 +16,12 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,10 +30,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    private static final int DEFAULT_HISTORY_LIMIT = 30;
+    private static final int MAX_HISTORY_LIMIT = 100;
+    // 인덱스 chat_messages(roomId, createdAt, _id) 순서와 같은 정렬
+    private static final Sort NEWEST_FIRST = Sort.by(Direction.DESC, "createdAt", "id");
+    private static final Sort OLDEST_FIRST = Sort.by(Direction.ASC, "createdAt", "id");
+
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserDetailsServiceImpl userDetailsService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
+    private final ChatReadStatusService chatReadStatusService;
 
     // 메시지 저장 및 전송
     @Transactional
@@ -73,6 +88,7 @@ public class ChatMessageService {
         // 메시지 저장
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
         log.info("📩 메시지 저장 완료: Message ID = {}", savedMessage.getId());
+        chatReadStatusService.onMessageSaved(savedMessage, List.of(receiverId));
 
         // 메시지 전송
         sendMessageToChatRoom(savedMessage);
@@ -80,7 +96,7 @@ public class ChatMessageService {
     }
 
     private void sendMessageToChatRoom(ChatMessage message) {
-        simpMessagingTemplate.convertAndSend(
+        chatBroadcaster.broadcast(
                 "/topic/chat-room/" + message.getRoomId(), message
         );
     }
@@ -101,45 +117,49 @@ public class ChatMessageService {
                 .orElseThrow(() -> new ChatMessageException("❌ 채팅방에 상대방이 존재하지 않습니다"));
     }
 
-    // 각 채팅방 메시지 조회
-    public List<ChatMessage> getMessagesByRoomId(String roomId) {
+    // 각 채팅방 메시지 조회 (오래된 순 페이지)
+    public Page<ChatMessage> getMessagesByRoomId(String roomId, Pageable pageable) {
         log.info("📩 메시지 조회 요청: Room ID = {}", roomId);
-        return chatMessageRepository.findByRoomIdOrderByCreatedAtAsc(roomId);
+        return chatMessageRepository.findByRoomId(roomId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), OLDEST_FIRST));
     }
 
-    // 채팅방의 모든 메시지를 읽음 처리
-    @Transactional
-    public void markAllMessagesAsRead(String roomId) {
-        int memberId = userDetailsService.getMemberByContextHolder().getId();
-
-        List<ChatMessage> unreadMessages = chatMessageRepository
-                .findByRoomIdAndReadByMembersNotContaining(roomId, memberId);
-
-        if (unreadMessages.isEmpty()) {
-            return;
+    // 커서 기반 메시지 조회 (최신 순), before 메시지보다 이전 메시지를 limit개까지
+    public ChatMessageSliceResponse getMessagesBefore(String roomId, String before, Integer limit) {
+        int size = limit == null ? DEFAULT_HISTORY_LIMIT : Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+        // 한 개 더 읽어 다음 페이지 여부 확인
+        Pageable pageable = PageRequest.of(0, size + 1, NEWEST_FIRST);
+
+        List<ChatMessage> messages;
+        if (before == null || before.isBlank()) {
+            messages = chatMessageRepository.findLatestByRoomId(roomId, pageable);
+        } else {
+            if (!ObjectId.isValid(before)) {
+                throw new ChatMessageException("❌ 올바르지 않은 메시지 ID입니다");
+            }
+            ChatMessage cursor = chatMessageRepository.findByIdAndRoomId(before, roomId)
+                    .orElseThrow(() -> new ChatMessageException("❌ 존재하지 않는 메시지입니다"));
+            messages = chatMessageRepository.findByRoomIdBefore(roomId, cursor.getCreatedAt(),
+                    new ObjectId(before), pageable);
         }
 
-        for (ChatMessage message : unreadMessages) {
-            message.getReadByMembers().add(memberId);
-            message.setIsRead(checkIfAllRead(message));
-        }
-
-        chatMessageRepository.saveAll(unreadMessages);
-
-        simpMessagingTemplate.convertAndSend(
-                "/topic/chat-room/" + roomId + "/read-status",
-                unreadMessages
-        );
+        boolean hasNext = messages.size() > size;
+        List<ChatMessage> page = hasNext ? messages.subList(0, size) : messages;
+        String nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new ChatMessageSliceResponse(page.stream().map(ChatMessageResponse::new).toList(), nextCursor,
+                hasNext);
     }
 
-    // 모든 참여자가 읽었는지 확인
-    private boolean checkIfAllRead(ChatMessage message) {
-        int totalParticipants = getTotalParticipants(message.getRoomId());
-        return message.getReadByMembers().size() >= totalParticipants;
+    // 채팅방의 모든 메시지를 읽음 처리
+    public void markAllMessagesAsRead(String roomId) {
+        int memberId = userDetailsService.getMemberByContextHolder().getId();
+        chatReadStatusService.markAllAsRead(roomId, memberId);
     }
 
-    private int getTotalParticipants(String roomId) {
-        return chatRoomRepository.findById(roomId).get().getParticipants().size();
+    // 채팅방의 읽지 않은 메시지 수
+    public int getUnreadCount(String roomId) {
+        int memberId = userDetailsService.getMemberByContextHolder().getId();
+        return chatReadStatusService.getUnreadCount(roomId, memberId);
     }
 
 }
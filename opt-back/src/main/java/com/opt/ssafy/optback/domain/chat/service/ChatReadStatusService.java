@@ -0,0 +1,124 @@
+package com.opt.ssafy.optback.domain.chat.service;
+
+import com.opt.ssafy.optback.domain.chat.dto.ChatReadStatusResponse;
+import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
+import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
+import com.opt.ssafy.optback.domain.chat.exception.ChatRoomException;
+import com.opt.ssafy.optback.domain.chat.infrastructure.ChatBroadcaster;
+import com.opt.ssafy.optback.domain.chat.repository.ChatMessageRepository;
+import com.opt.ssafy.optback.domain.chat.repository.ChatRoomRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+// 채팅방별 읽음 위치(lastReadAt), 읽지 않은 메시지 수, 마지막 메시지를 채팅방 문서에 유지
+// 메시지를 하나씩 읽어 저장하지 않고 updateMany / $inc 한 번으로 처리한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadStatusService {
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatBroadcaster chatBroadcaster;
+
+    // memberId가 채팅방의 지금까지 메시지를 모두 읽음
+    public ChatReadStatusResponse markAllAsRead(String roomId, int memberId) {
+        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
+                .orElseThrow(() -> new ChatRoomException("❌ 존재하지 않는 채팅방입니다"));
+        LocalDateTime lastReadAt = LocalDateTime.now();
+
+        Criteria roomMessages = Criteria.where("roomId").is(roomId).and("createdAt").lte(lastReadAt);
+        mongoTemplate.updateMulti(Query.query(roomMessages.and("readByMembers").ne(memberId)),
+                new Update().addToSet("readByMembers", memberId), ChatMessage.class);
+        // 모든 참여자가 읽은 메시지는 isRead
+        mongoTemplate.updateMulti(Query.query(Criteria.where("roomId").is(roomId)
+                        .and("isRead").ne(true)
+                        .and("readByMembers").all(chatRoom.getParticipants())),
+                new Update().set("isRead", true), ChatMessage.class);
+
+        String key = String.valueOf(memberId);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(roomId)),
+                new Update().set("lastReadAt." + key, lastReadAt).set("unreadCounts." + key, 0), ChatRoom.class);
+
+        ChatReadStatusResponse readStatus = new ChatReadStatusResponse(roomId, memberId, lastReadAt);
+        chatBroadcaster.broadcast("/topic/chat-room/" + roomId + "/read-status", readStatus);
+        return readStatus;
+    }
+
+    // 메시지 저장 후 받는 참여자의 읽지 않은 메시지 수와 채팅방의 마지막 메시지를 반영
+    // 이미 이 메시지 이후까지 읽음 처리한 참여자는 증가시키지 않는다 (읽음 처리와 동시에 도착한 경우)
+    public void onMessageSaved(ChatMessage message, Collection<Integer> receiverIds) {
+        for (Integer receiverId : receiverIds) {
+            if (receiverId == message.getSenderId()) {
+                continue;
+            }
+            String key = String.valueOf(receiverId);
+            Query query = Query.query(Criteria.where("_id").is(message.getRoomId()).orOperator(
+                    Criteria.where("lastReadAt." + key).exists(false),
+                    Criteria.where("lastReadAt." + key).lt(message.getCreatedAt())));
+            mongoTemplate.updateFirst(query, new Update().inc("unreadCounts." + key, 1), ChatRoom.class);
+        }
+
+        // 늦게 저장된 이전 메시지가 더 최신 요약을 덮어쓰지 않도록 (null은 필드가 없거나 메시지가 없던 방)
+        Query summaryQuery = Query.query(Criteria.where("_id").is(message.getRoomId()).orOperator(
+                Criteria.where("lastMessageAt").is(null),
+                Criteria.where("lastMessageAt").lt(message.getCreatedAt())));
+        mongoTemplate.updateFirst(summaryQuery, lastMessageUpdate(message), ChatRoom.class);
+    }
+
+    public int getUnreadCount(String roomId, int memberId) {
+        return chatRoomRepository.findById(roomId)
+                .map(chatRoom -> chatRoom.getUnreadCount(memberId))
+                .orElseThrow(() -> new ChatRoomException("❌ 존재하지 않는 채팅방입니다"));
+    }
+
+    private Update lastMessageUpdate(ChatMessage message) {
+        return new Update().set("lastMessage", message.getContent()).set("lastMessageAt", message.getCreatedAt());
+    }
+
+    // 요약 필드 도입 전 채팅방은 기존 메시지로 마지막 메시지와 읽지 않은 메시지 수를 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRoomSummaries() {
+        try {
+            for (ChatRoom chatRoom : chatRoomRepository.findByUnreadCountsExistsOrLastMessageAtExists(false, false)) {
+                // 참여자나 메시지가 없는 방도 빈 값(빈 map, lastMessageAt: null)을 명시해 다음 기동 때 다시 처리하지 않는다
+                Update update = new Update();
+                if (chatRoom.getUnreadCounts() == null) {
+                    Map<String, Integer> unreadCounts = new HashMap<>();
+                    if (chatRoom.getParticipants() != null) {
+                        for (Integer memberId : chatRoom.getParticipants()) {
+                            unreadCounts.put(String.valueOf(memberId), (int) chatMessageRepository
+                                    .countByRoomIdAndSenderIdNotAndReadByMembersNotContaining(chatRoom.getId(),
+                                            memberId, memberId));
+                        }
+                    }
+                    update.set("unreadCounts", unreadCounts);
+                }
+                if (chatRoom.getLastMessageAt() == null) {
+                    Optional<ChatMessage> lastMessage = chatMessageRepository
+                            .findTopByRoomIdOrderByCreatedAtDesc(chatRoom.getId());
+                    update.set("lastMessage", lastMessage.map(ChatMessage::getContent).orElse(null))
+                            .set("lastMessageAt", lastMessage.map(ChatMessage::getCreatedAt).orElse(null));
+                }
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(chatRoom.getId())), update,
+                        ChatRoom.class);
+            }
+        } catch (DataAccessException e) {
+            log.warn("채팅방 요약 초기화 실패", e);
+        }
+    }
+}
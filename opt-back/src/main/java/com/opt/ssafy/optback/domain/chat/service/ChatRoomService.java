@@ -1,22 +1,27 @@
 package com.opt.ssafy.optback.domain.chat.service;
 
+import com.mongodb.client.result.UpdateResult;
 import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
 import com.opt.ssafy.optback.domain.chat.dto.ChatRoomResponse;
-import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
 import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
 import com.opt.ssafy.optback.domain.chat.exception.ChatRoomException;
-import com.opt.ssafy.optback.domain.chat.repository.ChatMessageRepository;
 import com.opt.ssafy.optback.domain.chat.repository.ChatRoomRepository;
+import com.opt.ssafy.optback.domain.member.dto.MemberSummary;
 import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,11 +30,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChatRoomService {
 
+    private static final int ADMIN_ID = 0;
+
     private final ChatRoomRepository chatRoomRepository;
     private final UserDetailsServiceImpl userDetailsService;
-    private final ChatMessageRepository chatMessageRepository;
     private final SystemMessageService systemMessageService;
     private final MemberRepository memberRepository;
+    private final MongoTemplate mongoTemplate;
 
     // 채팅방 생성
     @Transactional
@@ -61,69 +68,58 @@ public class ChatRoomService {
     }
 
     //채팅방 나가기
-    @Transactional
+    // 문서 전체를 다시 저장하지 않고 나가는 사람의 참여자/읽음 정보만 지운다 (동시에 갱신된 읽지 않은 수, 마지막 메시지를 덮어쓰지 않도록)
     public void leaveChatRoom(String roomId) {
         int memberId = userDetailsService.getMemberByContextHolder().getId();
-        log.info("📩 채팅방 목록 요청: 사용자 ID = {}", memberId);
-        Optional<ChatRoom> optionalChatRoom = chatRoomRepository.findById(roomId);
-        if (optionalChatRoom.isEmpty()) {
+        log.info("📩 채팅방 나가기 요청: 사용자 ID = {}, Room ID = {}", memberId, roomId);
+
+        String key = String.valueOf(memberId);
+        UpdateResult result = mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(roomId)),
+                new Update().pull("participants", memberId)
+                        .unset("unreadCounts." + key)
+                        .unset("lastReadAt." + key),
+                ChatRoom.class);
+        if (result.getMatchedCount() == 0) {
             throw new ChatRoomException("❌ 채팅방을 찾을 수 없습니다");
         }
 
-        ChatRoom chatRoom = optionalChatRoom.get();
-
-        // 참여자 목록에서 제거
-        List<Integer> updatedParticipants = new ArrayList<>(chatRoom.getParticipants());
-        log.info("📩 사용자 {}의 채팅방 개수: {}", memberId, updatedParticipants.size());
-        updatedParticipants.remove(Integer.valueOf(memberId));
-
-        if (updatedParticipants.isEmpty()) {
-            try {
-                chatRoomRepository.delete(chatRoom);
-            } catch (ChatRoomException e) {
-                throw new ChatRoomException("채팅방 나가기 실패");
-            }
-        } else {
-            chatRoom.setParticipants(updatedParticipants);
-            chatRoomRepository.save(chatRoom);
-        }
+        // 남은 참여자가 없을 때만 삭제 (조건부 삭제라 그 사이 참여자가 생긴 방은 지우지 않음)
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(roomId).and("participants").size(0)),
+                ChatRoom.class);
     }
 
-    // 사용자가 속한 채팅방 목록 조회
-    public List<ChatRoomResponse> getUserChatRooms() {
+    // 사용자가 속한 채팅방 목록 조회 (최근 메시지 순), 상대방 닉네임은 한 번에 조회
+    public Page<ChatRoomResponse> getUserChatRooms(Pageable pageable) {
         int memberId = userDetailsService.getMemberByContextHolder().getId();
 
-        List<ChatRoom> chatRooms = chatRoomRepository.findByParticipantsContaining(memberId);
+        Page<ChatRoom> chatRooms = chatRoomRepository.findByParticipantsContainingOrderByLastMessageAtDesc(memberId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-        // 최근 메시지 순으로 정렬
-        chatRooms.sort((Comparator.comparing(room -> getLastMessageContent(room.getId()).getCreatedAt(),
-                Comparator.reverseOrder())));
+        Set<Integer> otherMemberIds = chatRooms.stream()
+                .map(chatRoom -> getOtherMemberId(chatRoom.getParticipants(), memberId))
+                .filter(id -> id != null && id != ADMIN_ID)
+                .collect(Collectors.toSet());
+        Map<Integer, String> nicknames = otherMemberIds.isEmpty() ? Map.of()
+                : memberRepository.findSummariesByIdIn(otherMemberIds).stream()
+                        .collect(Collectors.toMap(MemberSummary::getId, MemberSummary::getNickname));
 
-        return chatRooms.stream()
-                .map(chatRoom -> buildChatRoomResponse(chatRoom, memberId))
-                .collect(Collectors.toList());
+        return chatRooms.map(chatRoom -> new ChatRoomResponse(chatRoom,
+                getOtherMemberNickname(getOtherMemberId(chatRoom.getParticipants(), memberId), nicknames),
+                memberId));
     }
 
-    private ChatRoomResponse buildChatRoomResponse(ChatRoom chatRoom, int userId) {
-        String otherMemberNickname = getOtherMemberNickname(chatRoom.getParticipants(), userId);
-        ChatMessage lastMessage = getLastMessageContent(chatRoom.getId());
-
-        return new ChatRoomResponse(chatRoom, otherMemberNickname, lastMessage);
-    }
-
-    private String getOtherMemberNickname(List<Integer> participants, int memberId) {
+    private Integer getOtherMemberId(List<Integer> participants, int memberId) {
         return participants.stream()
                 .filter(id -> id != memberId)
                 .findFirst()
-                .map(id -> id == 0 ? "관리자" : memberRepository.findNicknameById(id))
-                .orElse("알 수 없음");
+                .orElse(null);
     }
 
-    private ChatMessage getLastMessageContent(String roomId) {
-        return chatMessageRepository
-                .findTopByRoomIdOrderByCreatedAtDesc(roomId)
-                .orElse(ChatMessage.builder().content("대화 없음").createdAt(LocalDateTime.MIN).build());
+    private String getOtherMemberNickname(Integer otherMemberId, Map<Integer, String> nicknames) {
+        if (otherMemberId == null) {
+            return "알 수 없음";
+        }
+        return otherMemberId == ADMIN_ID ? "관리자" : nicknames.get(otherMemberId);
     }
 
 }
-
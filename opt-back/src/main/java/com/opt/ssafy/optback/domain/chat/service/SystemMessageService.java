@@ -5,13 +5,14 @@ import com.opt.ssafy.optback.domain.chat.dto.SystemMessageToRoom;
 import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
 import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
 import com.opt.ssafy.optback.domain.chat.exception.ChatRoomException;
+import com.opt.ssafy.optback.domain.chat.infrastructure.ChatBroadcaster;
 import com.opt.ssafy.optback.domain.chat.repository.ChatMessageRepository;
 import com.opt.ssafy.optback.domain.chat.repository.ChatRoomRepository;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class SystemMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatReadStatusService chatReadStatusService;
 
     // 시스템 메시지 방 전체 인원에게 전송
     @Transactional
@@ -34,7 +36,8 @@ public class SystemMessageService {
         ChatMessage systemMessage = createSystemMessage(request.getRoomId(), request.getSenderId(),
                 request.getContent());
         chatMessageRepository.save(systemMessage);
-        simpMessagingTemplate.convertAndSend("/topic/chat-room/" + request.getRoomId(), systemMessage);
+        chatReadStatusService.onMessageSaved(systemMessage, chatRoomOptional.get().getParticipants());
+        chatBroadcaster.broadcast("/topic/chat-room/" + request.getRoomId(), systemMessage);
         log.info("📩 [System] 채팅방({}) 내 전체 유저에게 시스템 메시지 전송: {}", request.getRoomId(), request.getContent());
     }
 
@@ -44,8 +47,9 @@ public class SystemMessageService {
 
         ChatMessage systemMessage = createSystemMessage(roomId, request.getSenderId(), request.getContent());
         chatMessageRepository.save(systemMessage);
+        chatReadStatusService.onMessageSaved(systemMessage, List.of(request.getReceiverId()));
 
-        simpMessagingTemplate.convertAndSend("/topic/chat-room/" + roomId, systemMessage);
+        chatBroadcaster.broadcast("/topic/chat-room/" + roomId, systemMessage);
         log.info("📩 [System] 특정 유저({})에게 시스템 메시지 전송: {}", request.getReceiverId(), request.getContent());
     }
 
@@ -73,7 +77,7 @@ public class SystemMessageService {
         // 새로운 채팅방 생성
         ChatRoom newRoom = ChatRoom.builder()
                 .id(roomId)
-                .participants(java.util.List.of(adminId, receiverId))
+                .participants(List.of(adminId, receiverId))
                 .build();
 
         chatRoomRepository.save(newRoom);
@@ -2,11 +2,14 @@ package com.opt.ssafy.optback.domain.gym.api;
 
 import com.opt.ssafy.optback.domain.gym.application.GymService;
 import com.opt.ssafy.optback.domain.gym.dto.GymDetailResponse;
+import com.opt.ssafy.optback.domain.gym.dto.NearbyGymResponse;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,6 +19,15 @@ public class GymController {
 
     private final GymService gymService;
 
+    // radius(km)가 없으면 가장 가까운 limit곳
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyGymResponse>> getNearbyGyms(@RequestParam double latitude,
+                                                                 @RequestParam double longitude,
+                                                                 @RequestParam(required = false) Double radius,
+                                                                 @RequestParam(defaultValue = "20") Integer limit) {
+        return ResponseEntity.ok(gymService.getNearbyGyms(latitude, longitude, radius, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<GymDetailResponse> getGymDetail(@PathVariable Integer id) {
         return ResponseEntity.ok(gymService.getGymDetail(id));
@@ -0,0 +1,241 @@
+package com.opt.ssafy.optback.domain.gym.application;
+
+import com.opt.ssafy.optback.domain.gym.dto.GymDistance;
+import com.opt.ssafy.optback.domain.gym.event.GymChangedEvent;
+import com.opt.ssafy.optback.domain.gym.repository.GymRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 헬스장 좌표 격자 인덱스 (위도/경도 0.05도 단위 셀)
+// 반경 검색은 반경을 덮는 셀만 확인하고 haversine 거리로 거른다. 헬스장 정보는 거의 바뀌지 않으므로 주기적으로 통째로 다시 만든다.
+// 헬스장은 애플리케이션 밖에서 적재되므로, 다시 만들 때 이전 스냅샷과 비교해 바뀐 헬스장을 GymChangedEvent로 알린다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GymLocationIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double CELL_DEGREES = 0.05;
+    private static final double MAX_RADIUS_KM = Math.PI * EARTH_RADIUS_KM;
+
+    private final GymRepository gymRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot;
+    // 스냅샷이 없을 때 진행 중인 적재 (요청마다 따로 전체를 읽지 않도록 한 번만 실행하고 나머지는 기다린다)
+    private final AtomicReference<CompletableFuture<Snapshot>> loading = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        currentSnapshot();
+    }
+
+    @Scheduled(initialDelayString = "${gym.location-index.refresh-interval-ms:600000}",
+            fixedDelayString = "${gym.location-index.refresh-interval-ms:600000}")
+    public void refresh() {
+        Snapshot previous = snapshot;
+        Snapshot current;
+        try {
+            current = Snapshot.build(gymRepository.findAllLocations());
+        } catch (DataAccessException e) {
+            log.warn("헬스장 위치 인덱스 갱신 실패", e);
+            return;
+        }
+        snapshot = current;
+        log.info("헬스장 위치 인덱스 갱신 ({}곳)", current.ids.length);
+
+        // 첫 적재는 비교 대상이 없음 (기동 시 카드는 TrainerCardProjector.backfill이 확인)
+        if (previous != null) {
+            List<Integer> changed = current.changedSince(previous);
+            if (!changed.isEmpty()) {
+                log.info("변경된 헬스장 {}곳", changed.size());
+                eventPublisher.publishEvent(new GymChangedEvent(changed));
+            }
+        }
+    }
+
+    // radius(km) 안의 헬스장을 가까운 순으로, radius가 없으면 가장 가까운 limit곳 (k-nearest)
+    public List<GymDistance> findNearby(double latitude, double longitude, Double radius, Integer limit) {
+        Snapshot current = currentSnapshot();
+        if (current == null) {
+            return List.of();
+        }
+
+        List<GymDistance> found;
+        if (radius != null) {
+            found = current.within(latitude, longitude, Math.min(radius, MAX_RADIUS_KM));
+        } else if (limit != null) {
+            // 반경을 두 배씩 넓히며 limit곳 이상 찾으면 중단 (반경 안의 결과는 정확하므로 상위 limit곳이 곧 최근접)
+            double searchRadius = 1.0;
+            found = current.within(latitude, longitude, searchRadius);
+            while (found.size() < limit && searchRadius < MAX_RADIUS_KM) {
+                searchRadius = Math.min(searchRadius * 2, MAX_RADIUS_KM);
+                found = current.within(latitude, longitude, searchRadius);
+            }
+        } else {
+            found = current.within(latitude, longitude, MAX_RADIUS_KM);
+        }
+
+        found.sort(Comparator.comparingDouble(GymDistance::getDistance));
+        if (limit != null && found.size() > limit) {
+            return new ArrayList<>(found.subList(0, Math.max(limit, 0)));
+        }
+        return found;
+    }
+
+    // 적재 전이면 (ApplicationReadyEvent 전에 들어온 요청 등) 진행 중인 적재를 기다리고, 없으면 직접 한 번 적재
+    // 적재에 실패하면 null (기다리던 요청은 빈 결과, 이후 요청이 다시 한 번 적재를 시도)
+    private Snapshot currentSnapshot() {
+        while (true) {
+            Snapshot current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            CompletableFuture<Snapshot> inFlight = loading.get();
+            if (inFlight != null && !(inFlight.isDone() && inFlight.join() == null)) {
+                return inFlight.join();
+            }
+            CompletableFuture<Snapshot> created = new CompletableFuture<>();
+            if (!loading.compareAndSet(inFlight, created)) {
+                continue;
+            }
+            try {
+                refresh();
+            } finally {
+                created.complete(snapshot);
+            }
+            return created.join();
+        }
+    }
+
+    // 두 좌표 사이의 대원 거리 (km)
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long key(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private static class Snapshot {
+        private final int[] ids;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final Map<Long, int[]> cells;
+        // 헬스장 id -> 좌표/이름/주소 해시 (변경 감지용)
+        private final Map<Integer, Integer> fingerprints;
+
+        private Snapshot(int[] ids, double[] latitudes, double[] longitudes, Map<Long, int[]> cells,
+                         Map<Integer, Integer> fingerprints) {
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+            this.cells = cells;
+            this.fingerprints = fingerprints;
+        }
+
+        static Snapshot build(List<Object[]> rows) {
+            int size = rows.size();
+            int[] ids = new int[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            Map<Long, List<Integer>> grouped = new HashMap<>();
+            Map<Integer, Integer> fingerprints = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Object[] row = rows.get(i);
+                ids[i] = ((Number) row[0]).intValue();
+                latitudes[i] = ((Number) row[1]).doubleValue();
+                longitudes[i] = ((Number) row[2]).doubleValue();
+                fingerprints.put(ids[i], Objects.hash(latitudes[i], longitudes[i], row[3], row[4]));
+                grouped.computeIfAbsent(key(cell(latitudes[i]), cell(longitudes[i])), k -> new ArrayList<>()).add(i);
+            }
+
+            Map<Long, int[]> cells = new HashMap<>(grouped.size() * 2);
+            grouped.forEach((cellKey, indexes) -> cells.put(cellKey,
+                    indexes.stream().mapToInt(Integer::intValue).toArray()));
+            return new Snapshot(ids, latitudes, longitudes, cells, fingerprints);
+        }
+
+        // 이전 스냅샷 대비 추가/삭제/변경된 헬스장 id
+        List<Integer> changedSince(Snapshot previous) {
+            List<Integer> changed = new ArrayList<>();
+            fingerprints.forEach((id, fingerprint) -> {
+                if (!fingerprint.equals(previous.fingerprints.get(id))) {
+                    changed.add(id);
+                }
+            });
+            previous.fingerprints.keySet().stream()
+                    .filter(id -> !fingerprints.containsKey(id))
+                    .forEach(changed::add);
+            return changed;
+        }
+
+        List<GymDistance> within(double latitude, double longitude, double radius) {
+            double latDelta = radius / KM_PER_DEGREE;
+            double cos = Math.cos(Math.toRadians(latitude));
+            double lngDelta = (cos < 1e-6) ? 360 : radius / (KM_PER_DEGREE * cos);
+
+            int minLat = cell(Math.max(latitude - latDelta, -90));
+            int maxLat = cell(Math.min(latitude + latDelta, 90));
+            int minLng = cell(longitude - lngDelta);
+            int maxLng = cell(longitude + lngDelta);
+            boolean allLongitudes = lngDelta >= 180 || maxLng - minLng + 1 >= cell(360);
+
+            List<GymDistance> found = new ArrayList<>();
+            long cellCount = (long) (maxLat - minLat + 1) * (allLongitudes ? Integer.MAX_VALUE : maxLng - minLng + 1);
+            if (allLongitudes || cellCount > cells.size()) {
+                // 확인할 셀이 실제 셀 수보다 많으면 전체를 훑는 편이 빠르다
+                for (int i = 0; i < ids.length; i++) {
+                    collect(i, latitude, longitude, radius, found);
+                }
+                return found;
+            }
+
+            for (int latCell = minLat; latCell <= maxLat; latCell++) {
+                for (int lngCell = minLng; lngCell <= maxLng; lngCell++) {
+                    // 경도 ±180 경계를 넘는 셀은 반대편 셀로 보정
+                    int wrapped = Math.floorMod(lngCell + cell(180), cell(360)) - cell(180);
+                    int[] indexes = cells.get(key(latCell, wrapped));
+                    if (indexes == null) {
+                        continue;
+                    }
+                    for (int index : indexes) {
+                        collect(index, latitude, longitude, radius, found);
+                    }
+                }
+            }
+            return found;
+        }
+
+        private void collect(int index, double latitude, double longitude, double radius, List<GymDistance> found) {
+            double distance = haversine(latitude, longitude, latitudes[index], longitudes[index]);
+            if (distance <= radius) {
+                found.add(new GymDistance(ids[index], distance));
+            }
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.opt.ssafy.optback.domain.gym.application;
 
 import com.opt.ssafy.optback.domain.gym.dto.GymDetailResponse;
+import com.opt.ssafy.optback.domain.gym.dto.GymDistance;
+import com.opt.ssafy.optback.domain.gym.dto.NearbyGymResponse;
 import com.opt.ssafy.optback.domain.gym.entity.Gym;
 import com.opt.ssafy.optback.domain.gym.exception.GymNotFoundException;
 import com.opt.ssafy.optback.domain.gym.repository.GymRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,10 +18,23 @@ import org.springframework.stereotype.Service;
 public class GymService {
 
     private final GymRepository gymRepository;
+    private final GymLocationIndex gymLocationIndex;
 
     public GymDetailResponse getGymDetail(Integer id) {
         Gym gym = gymRepository.findById(id).orElseThrow(() -> new GymNotFoundException("헬스장 정보를 찾을 수 없습니다"));
         return GymDetailResponse.from(gym);
     }
 
+    // 내 주변 헬스장 (가까운 순)
+    public List<NearbyGymResponse> getNearbyGyms(double latitude, double longitude, Double radius, Integer limit) {
+        List<GymDistance> nearby = gymLocationIndex.findNearby(latitude, longitude, radius, limit);
+        Map<Integer, Gym> gyms = gymRepository.findAllById(nearby.stream().map(GymDistance::getGymId).toList())
+                .stream()
+                .collect(Collectors.toMap(Gym::getId, Function.identity()));
+        return nearby.stream()
+                .filter(gymDistance -> gyms.containsKey(gymDistance.getGymId()))
+                .map(gymDistance -> NearbyGymResponse.of(gyms.get(gymDistance.getGymId()), gymDistance.getDistance()))
+                .toList();
+    }
+
 }
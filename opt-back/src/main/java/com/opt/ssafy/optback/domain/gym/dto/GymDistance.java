@@ -0,0 +1,12 @@
+package com.opt.ssafy.optback.domain.gym.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 기준 좌표로부터 헬스장까지의 거리 (km)
+@Getter
+@AllArgsConstructor
+public class GymDistance {
+    private int gymId;
+    private double distance;
+}
@@ -0,0 +1,28 @@
+package com.opt.ssafy.optback.domain.gym.dto;
+
+import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NearbyGymResponse {
+    private Integer id;
+    private String name;
+    private String address;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private double distance;
+
+    public static NearbyGymResponse of(Gym gym, double distance) {
+        return NearbyGymResponse.builder()
+                .id(gym.getId())
+                .name(gym.getGymName())
+                .address(gym.getFullAddress())
+                .latitude(gym.getLatitude())
+                .longitude(gym.getLongitude())
+                .distance(distance)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.opt.ssafy.optback.domain.gym.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 헬스장 이름/주소/좌표가 바뀌거나 추가/삭제된 헬스장 (트레이너 카드와 검색 결과에 영향)
+@Getter
+@AllArgsConstructor
+public class GymChangedEvent {
+
+    private final List<Integer> gymIds;
+
+}
@@ -1,9 +1,15 @@
 package com.opt.ssafy.optback.domain.gym.repository;
 
 import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface GymRepository extends JpaRepository<Gym, Integer> {
+
+    // 위치 인덱스 적재용: [id, latitude, longitude, gymName, fullAddress] (이름/주소는 변경 감지에만 사용)
+    @Query("SELECT g.id, g.latitude, g.longitude, g.gymName, g.fullAddress FROM Gym g")
+    List<Object[]> findAllLocations();
 }
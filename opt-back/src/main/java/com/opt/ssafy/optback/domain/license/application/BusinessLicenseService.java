@@ -9,11 +9,13 @@ import com.opt.ssafy.optback.domain.member.entity.Member;
 import com.opt.ssafy.optback.domain.member.exception.MemberNotFoundException;
 import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
 import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
 import com.opt.ssafy.optback.global.application.S3Service;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -30,6 +32,7 @@ public class BusinessLicenseService {
     private final BusinessLicenseProducer businessLicenseProducer;
     private final MemberRepository memberRepository;
     private final GymRepository gymRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void registerBusinessLicense(MultipartFile image) throws IOException {
@@ -60,6 +63,7 @@ public class BusinessLicenseService {
                 .build();
 
         member.grantTrainerRole(trainerDetail);
+        eventPublisher.publishEvent(new TrainerChangedEvent(member.getId()));
     }
 
 }
@@ -14,16 +14,23 @@ import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
 import com.opt.ssafy.optback.domain.member.repository.TrainerSpecialtyRepository;
 import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
 import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
 import com.opt.ssafy.optback.domain.member.entity.TrainerSpecialty;
 import com.opt.ssafy.optback.global.application.S3Service;
 import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -36,6 +43,7 @@ public class MemberService {
     private final TrainerDetailRepository trainerDetailRepository;
     private final KeywordExtractionService keywordExtractionService;
     private final TrainerSpecialtyRepository trainerSpecialtyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${profile.image.bucket.name}")
     private String profileImageBucketName;
@@ -51,6 +59,7 @@ public class MemberService {
         trainerDetail.updateIntro(request.getText());
 
         saveTrainerSpecialties();
+        eventPublisher.publishEvent(new TrainerChangedEvent(member.getId()));
     }
 
     public void updateNickname(UpdateNicknameRequest request) {
@@ -59,6 +68,7 @@ public class MemberService {
             throw new DuplicatedNicknameException();
         }
         member.updateNickname(request.getNickname());
+        publishTrainerChanged(member);
     }
 
     public void updateProfileImage(MultipartFile image) {
@@ -66,6 +76,7 @@ public class MemberService {
             String imagePath = s3Service.uploadImageFile(image, profileImageBucketName);
             Member member = userDetailsService.getMemberByContextHolder();
             member.updateProfileImage(imagePath);
+            publishTrainerChanged(member);
         } catch (IOException e) {
             System.err.println("업로드 실패 : " + e.getMessage());
         }
@@ -81,6 +92,26 @@ public class MemberService {
                         .interest(interest)
                         .build()).toList();
         member.updateInterests(newInterests);
+        publishTrainerChanged(member);
+    }
+
+    // 트레이너 카드와 검색 결과 캐시 갱신
+    private void publishTrainerChanged(Member member) {
+        if (member.isTrainer()) {
+            eventPublisher.publishEvent(new TrainerChangedEvent(member.getId()));
+        }
+    }
+
+    // interest_mask 컬럼 추가 전에 관심사를 등록한 회원의 bitmask 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInterestMasks() {
+        try {
+            if (memberRepository.existsMissingInterestMask()) {
+                memberRepository.rebuildInterestMasks();
+            }
+        } catch (DataAccessException e) {
+            log.warn("관심사 bitmask 초기화 실패", e);
+        }
     }
 
     @Transactional
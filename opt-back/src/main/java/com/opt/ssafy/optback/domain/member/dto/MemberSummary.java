@@ -0,0 +1,14 @@
+package com.opt.ssafy.optback.domain.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 화면에서 작성자/우승자 표시용으로 필요한 컬럼만 조회하는 프로젝션
+@Getter
+@AllArgsConstructor
+public class MemberSummary {
+    private int id;
+    private String nickname;
+    private String name;
+    private String imagePath;
+}
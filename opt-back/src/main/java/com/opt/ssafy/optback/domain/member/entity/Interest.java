@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.util.Collection;
 import lombok.Getter;
 
 @Table(name = "interest")
@@ -16,4 +17,22 @@ public class Interest {
 
     @Column(name = "display_name")
     private String displayName;
+
+    // 관심사 bitmask는 long 하나에 id 1~64를 한 비트씩 사용
+    public static final int MAX_MASK_ID = Long.SIZE;
+
+    public long bit() {
+        if (id < 1 || id > MAX_MASK_ID) {
+            throw new IllegalStateException("관심사 bitmask로 표현할 수 없는 관심사 ID: " + id);
+        }
+        return 1L << (id - 1);
+    }
+
+    public static long maskOf(Collection<Interest> interests) {
+        long mask = 0L;
+        for (Interest interest : interests) {
+            mask |= interest.bit();
+        }
+        return mask;
+    }
 }
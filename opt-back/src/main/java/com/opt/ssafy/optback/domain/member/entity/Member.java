@@ -74,6 +74,10 @@ public class Member {
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<MemberInterest> memberInterests;
 
+    // memberInterests의 bitmask (Interest.bit()의 OR), 관심사 변경 시 함께 갱신
+    @Column(name = "interest_mask", nullable = false, columnDefinition = "bigint default 0")
+    private long interestMask;
+
     @OneToOne(mappedBy = "member", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private TrainerDetail trainerDetail;
 
@@ -94,6 +98,7 @@ public class Member {
     public void updateInterests(List<MemberInterest> newInterests) {
         this.memberInterests.clear();
         this.memberInterests.addAll(newInterests);
+        this.interestMask = Interest.maskOf(newInterests.stream().map(MemberInterest::getInterest).toList());
     }
 
     @OneToMany(mappedBy = "member")
@@ -1,7 +1,10 @@
 package com.opt.ssafy.optback.domain.member.repository;
 
 import com.opt.ssafy.optback.domain.member.entity.Interest;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface InterestRepository extends JpaRepository<Interest, Integer> {
+    List<Interest> findByDisplayNameIn(Collection<String> displayNames);
 }
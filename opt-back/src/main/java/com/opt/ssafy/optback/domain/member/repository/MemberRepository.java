@@ -1,8 +1,13 @@
 package com.opt.ssafy.optback.domain.member.repository;
 
+import com.opt.ssafy.optback.domain.member.dto.MemberSummary;
 import com.opt.ssafy.optback.domain.member.entity.Member;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,4 +22,25 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
     String findNicknameById(@Param("memberId") int memberId);
 
     Member getMemberById(int id);
+
+    @Query("SELECT new com.opt.ssafy.optback.domain.member.dto.MemberSummary(m.id, m.nickname, m.name, m.imagePath) "
+            + "FROM Member m WHERE m.id IN :memberIds")
+    List<MemberSummary> findSummariesByIdIn(@Param("memberIds") Collection<Integer> memberIds);
+
+    @Query("SELECT m.interestMask FROM Member m WHERE m.id = :memberId")
+    Long findInterestMaskById(@Param("memberId") int memberId);
+
+    // 관심사가 있는데 bitmask가 비어 있는 회원 (interest_mask 컬럼 추가 전 데이터)
+    @Query("SELECT COUNT(m) > 0 FROM Member m WHERE m.interestMask = 0 AND m.memberInterests IS NOT EMPTY")
+    boolean existsMissingInterestMask();
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE member m
+            SET m.interest_mask = (SELECT COALESCE(BIT_OR(1 << (mi.interest_id - 1)), 0)
+                                   FROM member_interest mi
+                                   WHERE mi.member_id = m.id)
+            """, nativeQuery = true)
+    int rebuildInterestMasks();
 }
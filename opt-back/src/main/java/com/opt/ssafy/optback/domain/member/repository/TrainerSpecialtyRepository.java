@@ -3,6 +3,7 @@ package com.opt.ssafy.optback.domain.member.repository;
 
 import com.opt.ssafy.optback.domain.member.entity.TrainerSpecialty;
 import jakarta.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -21,4 +22,6 @@ public interface TrainerSpecialtyRepository extends JpaRepository<TrainerSpecial
     List<String> findKeywordsByTrainerId(@Param("trainerId") Integer trainerId);
 
     List<TrainerSpecialty> findByTrainerId(int trainerId);
+
+    List<TrainerSpecialty> findByTrainerIdIn(Collection<Integer> trainerIds);
 }
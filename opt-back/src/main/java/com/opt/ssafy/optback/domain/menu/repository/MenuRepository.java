@@ -1,6 +1,7 @@
 package com.opt.ssafy.optback.domain.menu.repository;
 
 import com.opt.ssafy.optback.domain.menu.entity.Menu;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -8,6 +9,8 @@ public interface MenuRepository extends JpaRepository<Menu, Integer> {
 
     List<Menu> findByTrainerId(int trainerId);
 
+    List<Menu> findByTrainerIdIn(Collection<Integer> trainerIds);
+
     Menu findByTrainerIdAndName(int trainerId, String name);
 
     boolean existsByTrainerIdAndName(int trainerId, String name);
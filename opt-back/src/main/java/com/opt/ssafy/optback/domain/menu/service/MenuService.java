@@ -6,8 +6,10 @@ import com.opt.ssafy.optback.domain.menu.entity.Menu;
 import com.opt.ssafy.optback.domain.menu.exception.MenuNotFoundException;
 import com.opt.ssafy.optback.domain.menu.exception.MenuNotSaveException;
 import com.opt.ssafy.optback.domain.menu.repository.MenuRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final UserDetailsServiceImpl userDetailsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 트레이너의 메뉴 조회
     public List<Menu> findByTrainerId(int trainerId) {
@@ -43,6 +46,7 @@ public class MenuService {
                 .totalSessions(menu.getTotalSessions())
                 .build();
 
+        eventPublisher.publishEvent(new TrainerChangedEvent(memberId));
         return menuRepository.save(newMenu);
     }
 
@@ -57,6 +61,7 @@ public class MenuService {
         } catch (Exception e) {
             throw new MenuNotSaveException("메뉴 삭제 실패");
         }
+        eventPublisher.publishEvent(new TrainerChangedEvent(findMenu.getTrainerId()));
 
     }
 
@@ -70,6 +75,7 @@ public class MenuService {
         } catch (Exception e) {
             throw new MenuNotSaveException("메뉴 수정 실패");
         }
+        eventPublisher.publishEvent(new TrainerChangedEvent(findMenu.getTrainerId()));
         return menuRepository.save(findMenu);
     }
 
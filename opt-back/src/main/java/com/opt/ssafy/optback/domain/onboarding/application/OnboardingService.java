@@ -9,7 +9,9 @@ import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
 import com.opt.ssafy.optback.domain.onboarding.dto.OnboardingRequest;
 import com.opt.ssafy.optback.domain.onboarding.exception.AlreadyOnboardedException;
 import com.opt.ssafy.optback.domain.onboarding.exception.InterestNotFoundException;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class OnboardingService {
     private final MemberRepository memberRepository;
     private final UserDetailsServiceImpl userDetailsService;
     private final InterestRepository interestRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void onboardMember(OnboardingRequest request) {
@@ -48,5 +51,10 @@ public class OnboardingService {
 
         // 저장
         memberRepository.save(member);
+
+        // 닉네임/관심사가 바뀌었으므로 트레이너 카드와 검색 결과 캐시 갱신
+        if (member.isTrainer()) {
+            eventPublisher.publishEvent(new TrainerChangedEvent(member.getId()));
+        }
     }
 }
@@ -0,0 +1,47 @@
+package com.opt.ssafy.optback.domain.trainer_detail.Repository;
+
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerCard;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrainerCardRepository extends JpaRepository<TrainerCard, Integer> {
+
+    List<TrainerCard> findByTrainerIdIn(Collection<Integer> trainerIds);
+
+    // [trainerId, sourceVersion], 카드를 만들기 전에 원본보다 먼저 읽는다
+    @Query("SELECT c.trainerId, c.sourceVersion FROM TrainerCard c WHERE c.trainerId IN :trainerIds")
+    List<Object[]> findSourceVersions(@Param("trainerIds") Collection<Integer> trainerIds);
+
+    // 반영되지 않은 변경이 남은 카드 (변경 후 카드를 다시 만들기 전에 서버가 종료된 경우)
+    @Query("SELECT c.trainerId FROM TrainerCard c WHERE c.sourceVersion > c.projectedVersion")
+    List<Integer> findStaleTrainerIds();
+
+    // 트레이너 정보가 없어졌는데 남아 있는 카드
+    @Query("SELECT c.trainerId FROM TrainerCard c "
+            + "WHERE NOT EXISTS (SELECT 1 FROM TrainerDetail t WHERE t.trainerId = c.trainerId)")
+    List<Integer> findOrphanTrainerIds();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TrainerCard c SET c.sourceVersion = c.sourceVersion + 1 WHERE c.trainerId = :trainerId")
+    int markStale(@Param("trainerId") int trainerId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TrainerCard c SET c.sourceVersion = c.sourceVersion + 1")
+    int markAllStale();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TrainerCard c SET c.sourceVersion = c.sourceVersion + 1 WHERE c.trainerId IN "
+            + "(SELECT t.trainerId FROM TrainerDetail t WHERE t.gym.id IN :gymIds)")
+    int markStaleByGymIdIn(@Param("gymIds") Collection<Integer> gymIds);
+
+}
@@ -1,13 +1,37 @@
 package com.opt.ssafy.optback.domain.trainer_detail.Repository;
 
 import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TrainerDetailRepository extends
         JpaRepository<TrainerDetail, Integer>,
-        JpaSpecificationExecutor {
+        JpaSpecificationExecutor<TrainerDetail> {
+
+    // 카드가 없는 트레이너를 원본에서 조립할 때
+    @EntityGraph(attributePaths = {"member", "gym"})
+    List<TrainerDetail> findByTrainerIdIn(Collection<Integer> trainerIds);
+
+    // 트레이너 상세 페이지
+    @EntityGraph(attributePaths = {"member", "gym"})
+    Optional<TrainerDetail> findWithMemberAndGymByTrainerId(int trainerId);
+
+    @Query("SELECT t.trainerId FROM TrainerDetail t")
+    List<Integer> findAllTrainerIds();
+
+    @Query("SELECT t.trainerId FROM TrainerDetail t "
+            + "WHERE NOT EXISTS (SELECT 1 FROM TrainerCard c WHERE c.trainerId = t.trainerId)")
+    List<Integer> findTrainerIdsWithoutCard();
+
+    @Query("SELECT t.trainerId FROM TrainerDetail t WHERE t.gym.id IN :gymIds")
+    List<Integer> findTrainerIdsByGymIdIn(@Param("gymIds") Collection<Integer> gymIds);
 
 }
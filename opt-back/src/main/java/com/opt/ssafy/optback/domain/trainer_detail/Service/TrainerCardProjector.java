@@ -0,0 +1,241 @@
+package com.opt.ssafy.optback.domain.trainer_detail.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opt.ssafy.optback.domain.gym.event.GymChangedEvent;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerCardRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerCard;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// TrainerChangedEvent로 바뀐 트레이너를 모아 두었다가 주기적으로 trainer_card를 다시 만든다
+// 변경 요청의 트랜잭션에서는 카드를 만들지 않으므로 쓰기 지연은 최대 projection-interval-ms
+// 변경 트랜잭션에서 카드의 source_version을 올려 두므로, 모아 둔 id를 잃어도 (서버 종료 등) 주기 점검에서 다시 만든다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrainerCardProjector {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final TrainerDetailRepository trainerDetailRepository;
+    private final TrainerCardRepository trainerCardRepository;
+    private final TrainerDetailResponseAssembler trainerDetailResponseAssembler;
+    private final TrainerSearchCache trainerSearchCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 같은 트레이너가 계속 실패하면 (깨진 데이터 등) max-attempts번 뒤 새 변경이 올 때까지 다시 시도하지 않는다
+    @Value("${trainer.card.max-attempts:5}")
+    private int maxAttempts;
+
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingAll = new AtomicBoolean();
+    private final Map<Integer, Integer> failures = new ConcurrentHashMap<>();
+
+    // 변경과 같은 트랜잭션에서 카드에 반영 대기 표시 (롤백되면 표시도 취소)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void markStale(TrainerChangedEvent event) {
+        if (event.isAll()) {
+            trainerCardRepository.markAllStale();
+        } else {
+            trainerCardRepository.markStale(event.getTrainerId());
+        }
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrainerChanged(TrainerChangedEvent event) {
+        if (event.isAll()) {
+            failures.clear();
+            pendingAll.set(true);
+        } else {
+            failures.remove(event.getTrainerId());
+            pending.add(event.getTrainerId());
+        }
+    }
+
+    // 헬스장 이름/주소가 카드에 들어가므로 그 헬스장 소속 트레이너의 카드를 다시 만든다
+    @EventListener
+    public void onGymChanged(GymChangedEvent event) {
+        try {
+            trainerCardRepository.markStaleByGymIdIn(event.getGymIds());
+            List<Integer> trainerIds = trainerDetailRepository.findTrainerIdsByGymIdIn(event.getGymIds());
+            failures.keySet().removeAll(trainerIds);
+            pending.addAll(trainerIds);
+        } catch (DataAccessException e) {
+            log.warn("헬스장 변경 트레이너 조회 실패, 전체 카드를 다시 만듭니다.", e);
+            pendingAll.set(true);
+        }
+    }
+
+    public void enqueue(Collection<Integer> trainerIds) {
+        pending.addAll(trainerIds);
+    }
+
+    // 카드가 없거나, 반영되지 않은 변경이 남았거나, 트레이너 정보가 없어진 카드를 다시 만든다
+    // 시작할 때와 주기적으로 확인 (다른 서버가 모아 둔 변경을 반영하지 못하고 종료된 경우도 포함)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${trainer.card.reconcile-interval-ms:60000}",
+            fixedDelayString = "${trainer.card.reconcile-interval-ms:60000}")
+    public void backfill() {
+        try {
+            Set<Integer> trainerIds = new LinkedHashSet<>(trainerDetailRepository.findTrainerIdsWithoutCard());
+            trainerIds.addAll(trainerCardRepository.findStaleTrainerIds());
+            trainerIds.addAll(trainerCardRepository.findOrphanTrainerIds());
+            trainerIds.removeIf(this::isGivenUp);
+            if (!trainerIds.isEmpty()) {
+                log.info("반영되지 않은 트레이너 카드 {}건을 다시 만듭니다.", trainerIds.size());
+                pending.addAll(trainerIds);
+            }
+        } catch (DataAccessException e) {
+            log.warn("트레이너 카드 점검 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trainer.card.projection-interval-ms:1000}")
+    public void flush() {
+        List<Integer> trainerIds;
+        if (pendingAll.getAndSet(false)) {
+            pending.clear();
+            trainerIds = trainerDetailRepository.findAllTrainerIds();
+        } else {
+            trainerIds = drain();
+        }
+        if (trainerIds.isEmpty()) {
+            return;
+        }
+
+        int projected = 0;
+        for (int from = 0; from < trainerIds.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = trainerIds.subList(from, Math.min(from + CHUNK_SIZE, trainerIds.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> project(chunk));
+                failures.keySet().removeAll(chunk);
+                projected += chunk.size();
+            } catch (RuntimeException e) {
+                if (chunk.size() == 1) {
+                    retryLater(chunk.get(0), e);
+                    continue;
+                }
+                // 실패한 트레이너만 골라내도록 한 건씩 다시 시도
+                log.warn("트레이너 카드 갱신 실패, 한 건씩 다시 시도합니다: {}", chunk, e);
+                projected += projectEach(chunk);
+            }
+        }
+        // 카드가 바뀐 경우에만 바뀌기 전 카드로 만든 검색 결과를 버린다
+        if (projected > 0) {
+            trainerSearchCache.invalidateAll();
+        }
+        log.debug("트레이너 카드 {}건 갱신", projected);
+    }
+
+    private int projectEach(List<Integer> trainerIds) {
+        int projected = 0;
+        for (Integer trainerId : trainerIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> project(List.of(trainerId)));
+                failures.remove(trainerId);
+                projected++;
+            } catch (RuntimeException e) {
+                retryLater(trainerId, e);
+            }
+        }
+        return projected;
+    }
+
+    // 다음 주기에 다시 시도 (그 사이 목록 조회는 이전 카드나 원본에서 조립)
+    private void retryLater(int trainerId, RuntimeException e) {
+        int attempts = failures.merge(trainerId, 1, Integer::sum);
+        if (attempts >= maxAttempts) {
+            log.error("트레이너 카드 갱신 {}회 실패, 새 변경이 있을 때까지 재시도하지 않습니다: {}", attempts, trainerId, e);
+            return;
+        }
+        log.error("트레이너 카드 갱신 실패 ({}회), 다음 주기에 재시도합니다: {}", attempts, trainerId, e);
+        pending.add(trainerId);
+    }
+
+    private boolean isGivenUp(int trainerId) {
+        return failures.getOrDefault(trainerId, 0) >= maxAttempts;
+    }
+
+    private List<Integer> drain() {
+        List<Integer> trainerIds = new ArrayList<>();
+        for (Iterator<Integer> iterator = pending.iterator(); iterator.hasNext(); ) {
+            trainerIds.add(iterator.next());
+            iterator.remove();
+        }
+        return trainerIds;
+    }
+
+    private void project(List<Integer> trainerIds) {
+        // 원본보다 버전을 먼저 읽어, 그 사이 들어온 변경은 다음 점검에서 다시 반영되도록 한다
+        Map<Integer, Long> versions = new HashMap<>();
+        for (Object[] row : trainerCardRepository.findSourceVersions(trainerIds)) {
+            versions.put((Integer) row[0], (Long) row[1]);
+        }
+        List<TrainerDetail> trainers = trainerDetailRepository.findByTrainerIdIn(trainerIds);
+        LocalDateTime projectedAt = LocalDateTime.now();
+        List<TrainerCard> cards = trainerDetailResponseAssembler.toResponses(trainers).stream()
+                .map(response -> toCard(response, projectedAt,
+                        versions.getOrDefault(response.getTrainerId(), 0L)))
+                .toList();
+        trainerCardRepository.saveAll(cards);
+
+        // 트레이너 정보가 없어진 카드는 삭제
+        Set<Integer> projected = cards.stream().map(TrainerCard::getTrainerId).collect(Collectors.toSet());
+        List<Integer> removed = trainerIds.stream().filter(trainerId -> !projected.contains(trainerId)).toList();
+        if (!removed.isEmpty()) {
+            trainerCardRepository.deleteAllByIdInBatch(removed);
+        }
+    }
+
+    private TrainerCard toCard(TrainerDetailResponse response, LocalDateTime projectedAt, long sourceVersion) {
+        try {
+            return TrainerCard.builder()
+                    .trainerId(response.getTrainerId())
+                    .nickname(response.getTrainerNickname())
+                    .profileImage(response.getTrainerProfileImage())
+                    .oneDayAvailable(response.isOneDayAvailable())
+                    .intro(response.getIntro())
+                    .experienceYears(response.getExperienceYears())
+                    .availableHours(response.getAvailableHours())
+                    .gymName(response.getGymName())
+                    .gymAddress(response.getGymAddress())
+                    .keywords(objectMapper.writeValueAsString(response.getKeywords()))
+                    .menus(objectMapper.writeValueAsString(response.getMenus()))
+                    .averageRating(response.getAverageRating())
+                    .reviewCount(response.getReviewCount())
+                    .projectedAt(projectedAt)
+                    .projectedVersion(sourceVersion)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("트레이너 카드 직렬화 실패: " + response.getTrainerId(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.opt.ssafy.optback.domain.trainer_detail.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opt.ssafy.optback.domain.menu.dto.MenuResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerCardRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerCard;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 트레이너 목록 응답을 trainer_card에서 트레이너당 한 행으로 읽는다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TrainerCardService {
+
+    private static final TypeReference<List<String>> KEYWORDS_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<List<MenuResponse>> MENUS_TYPE = new TypeReference<>() {
+    };
+
+    private final TrainerCardRepository trainerCardRepository;
+    private final TrainerDetailRepository trainerDetailRepository;
+    private final TrainerDetailResponseAssembler trainerDetailResponseAssembler;
+    private final TrainerCardProjector trainerCardProjector;
+    private final ObjectMapper objectMapper;
+
+    // 트레이너 순서 그대로, 아직 카드가 없는 트레이너만 원본(회원/헬스장 포함)을 읽어 조립하고 카드 생성을 요청
+    public List<TrainerDetailResponse> toResponses(List<Integer> trainerIds) {
+        if (trainerIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, TrainerCard> cards = trainerCardRepository.findByTrainerIdIn(trainerIds).stream()
+                .collect(Collectors.toMap(TrainerCard::getTrainerId, Function.identity()));
+
+        List<Integer> missing = trainerIds.stream()
+                .filter(trainerId -> !cards.containsKey(trainerId))
+                .toList();
+        Map<Integer, TrainerDetailResponse> assembled = Map.of();
+        if (!missing.isEmpty()) {
+            assembled = trainerDetailResponseAssembler.toResponses(trainerDetailRepository.findByTrainerIdIn(missing))
+                    .stream()
+                    .collect(Collectors.toMap(TrainerDetailResponse::getTrainerId, Function.identity()));
+            trainerCardProjector.enqueue(assembled.keySet());
+        }
+
+        Map<Integer, TrainerDetailResponse> fallback = assembled;
+        return trainerIds.stream()
+                .map(trainerId -> cards.containsKey(trainerId) ? toResponse(cards.get(trainerId))
+                        : fallback.get(trainerId))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private TrainerDetailResponse toResponse(TrainerCard card) {
+        try {
+            return new TrainerDetailResponse(card,
+                    objectMapper.readValue(card.getKeywords(), KEYWORDS_TYPE),
+                    objectMapper.readValue(card.getMenus(), MENUS_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("트레이너 카드 역직렬화 실패: " + card.getTrainerId(), e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.opt.ssafy.optback.domain.trainer_detail.Service;
+
+import com.opt.ssafy.optback.domain.member.entity.TrainerSpecialty;
+import com.opt.ssafy.optback.domain.member.repository.TrainerSpecialtyRepository;
+import com.opt.ssafy.optback.domain.menu.dto.MenuResponse;
+import com.opt.ssafy.optback.domain.menu.repository.MenuRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import com.opt.ssafy.optback.domain.trainer_review.entity.TrainerRatingStats;
+import com.opt.ssafy.optback.domain.trainer_review.service.TrainerRatingStatsService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 트레이너 목록의 전문 분야, 메뉴, 평점 집계를 IN 쿼리 3번으로 조회해 TrainerDetailResponse를 만든다
+@Component
+@RequiredArgsConstructor
+public class TrainerDetailResponseAssembler {
+
+    private final TrainerSpecialtyRepository trainerSpecialtyRepository;
+    private final MenuRepository menuRepository;
+    private final TrainerRatingStatsService trainerRatingStatsService;
+
+    public List<TrainerDetailResponse> toResponses(List<TrainerDetail> trainers) {
+        if (trainers.isEmpty()) {
+            return List.of();
+        }
+        Set<Integer> trainerIds = trainers.stream().map(TrainerDetail::getTrainerId).collect(Collectors.toSet());
+
+        Map<Integer, List<String>> keywords = trainerSpecialtyRepository.findByTrainerIdIn(trainerIds).stream()
+                .collect(Collectors.groupingBy(TrainerSpecialty::getTrainerId,
+                        Collectors.mapping(TrainerSpecialty::getKeyword, Collectors.toList())));
+        Map<Integer, List<MenuResponse>> menus = menuRepository.findByTrainerIdIn(trainerIds).stream()
+                .map(MenuResponse::new)
+                .collect(Collectors.groupingBy(MenuResponse::getTrainerId));
+        Map<Integer, TrainerRatingStats> ratingStats = trainerRatingStatsService.findByTrainerIds(trainerIds);
+
+        return trainers.stream()
+                .map(trainer -> {
+                    TrainerRatingStats stats = ratingStats.get(trainer.getTrainerId());
+                    return new TrainerDetailResponse(trainer,
+                            keywords.getOrDefault(trainer.getTrainerId(), List.of()),
+                            stats == null ? 0.0 : stats.getAverageRating(),
+                            stats == null ? 0 : stats.getReviewCount(),
+                            menus.getOrDefault(trainer.getTrainerId(), List.of()));
+                })
+                .toList();
+    }
+
+    public TrainerDetailResponse toResponse(TrainerDetail trainer) {
+        return toResponses(List.of(trainer)).get(0);
+    }
+}
@@ -1,26 +1,27 @@
 package com.opt.ssafy.optback.domain.trainer_detail.Service;
 
+import com.opt.ssafy.optback.config.FullTextIndexStatus;
 import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
 import com.opt.ssafy.optback.domain.counsel.exception.TrainerNotFoundException;
-import com.opt.ssafy.optback.domain.member.entity.Member;
-import com.opt.ssafy.optback.domain.member.entity.MemberInterest;
+import com.opt.ssafy.optback.domain.gym.application.GymLocationIndex;
+import com.opt.ssafy.optback.domain.gym.dto.GymDistance;
+import com.opt.ssafy.optback.domain.member.entity.Interest;
 import com.opt.ssafy.optback.domain.member.entity.TrainerSpecialty;
+import com.opt.ssafy.optback.domain.member.repository.InterestRepository;
 import com.opt.ssafy.optback.domain.member.repository.MemberRepository;
 import com.opt.ssafy.optback.domain.member.repository.TrainerSpecialtyRepository;
-import com.opt.ssafy.optback.domain.menu.dto.MenuResponse;
-import com.opt.ssafy.optback.domain.menu.repository.MenuRepository;
 import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
 import com.opt.ssafy.optback.domain.trainer_detail.Specification.TrainerSpecification;
 import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
 import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchRequest;
 import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
-import com.opt.ssafy.optback.domain.trainer_review.repository.TrainerReviewRepository;
-import java.awt.geom.Point2D;
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,236 +32,145 @@ import org.springframework.transaction.annotation.Transactional;
 public class TrainerDetailService {
 
     private final TrainerDetailRepository trainerDetailRepository;
-    private final MemberRepository memberRepository;
     private final UserDetailsServiceImpl userDetailsService;
-    private final TrainerReviewRepository trainerReviewRepository;
     private final TrainerSpecialtyRepository trainerSpecialtyRepository;
-    private final MenuRepository menuRepository;
-
+    private final TrainerDetailResponseAssembler trainerDetailResponseAssembler;
+    private final MemberRepository memberRepository;
+    private final GymLocationIndex gymLocationIndex;
+    private final InterestRepository interestRepository;
+    private final TrainerSearchCache trainerSearchCache;
+    private final TrainerCardService trainerCardService;
+    // 이름/주소 검색에 FULLTEXT 인덱스 사용 여부 (MySQL ngram, 인덱스가 있을 때만)
+    private final FullTextIndexStatus fullTextIndexStatus;
 
     public List<String> getTrainerSpecialties(int trainerId) {
         List<TrainerSpecialty> specialties = trainerSpecialtyRepository.findByTrainerId(trainerId);
         return specialties.stream().map(TrainerSpecialty::getKeyword).collect(Collectors.toList());
     }
     public TrainerDetailResponse getTrainerDetail(int trainerId) {
-        TrainerDetail trainerDetail = trainerDetailRepository.findById(trainerId)
+        TrainerDetail trainerDetail = trainerDetailRepository.findWithMemberAndGymByTrainerId(trainerId)
                 .orElseThrow(() -> new TrainerNotFoundException("해당 트레이너 정보를 찾을 수 없습니다: " + trainerId));
 
         return getResponse(trainerDetail);
     }
 
-    // 트레이너 검색 + 정렬
-    public List<TrainerDetailResponse> searchAndSortTrainers(TrainerSearchRequest request) {
-        Integer memberId = checkLogged();
-
-        // 검색
-        Specification<TrainerDetail> specification = TrainerSpecification.filterByCriteria(request);
-        List<TrainerDetail> filteredTrainers = trainerDetailRepository.findAll(specification);
-
-        // 정렬
+    // 트레이너 검색 + 정렬 (필터, 정렬, 페이지 모두 DB에서 처리)
+    // 관심사로 개인화되지 않는 결과는 trainerSearchCache로 공유
+    public Page<TrainerDetailResponse> searchAndSortTrainers(TrainerSearchRequest request, Pageable pageable) {
         String sortBy = (request.getSortBy() != null) ? request.getSortBy() : "recommendation";
-        double myLatitude = (request.getMyLatitude() != null) ? request.getMyLatitude().doubleValue() : 0.0;
-        double myLongitude = (request.getMyLongitude() != null) ? request.getMyLongitude().doubleValue() : 0.0;
-
-        sortTrainers(filteredTrainers, sortBy, myLatitude, myLongitude, memberId);
-
-        return getResponses(filteredTrainers);
-    }
-
-    private Integer checkLogged() {
-        Member member = userDetailsService.getMemberByContextHolder();
-        return (member != null) ? member.getId() : null;
-    }
-
-    // 정렬
-    private void sortTrainers(List<TrainerDetail> trainers, String sortBy, Double myLatitude, Double myLongitude,
-                              Integer memberId) {
-        if (trainers == null || trainers.isEmpty()) {
-            return;
+        long myInterestMask = "recommendation".equals(sortBy) ? findMyInterestMask() : 0L;
+        if (myInterestMask != 0) {
+            return searchTrainers(request, sortBy, myInterestMask, pageable);
         }
-        switch (sortBy) {
-            case "recommendation":
-                trainers.sort((t1, t2) -> compareByRecommendation(t1, t2, myLatitude, myLongitude, memberId));
-                break;
-            case "distance":
-                trainers.sort((t1, t2) -> compareByDistance(t1, t2, myLatitude, myLongitude));
-                break;
-            case "rating":
-                trainers.sort(this::compareByRating);
-                break;
-            case "review":
-                trainers.sort(this::compareByReviewCount);
-                break;
-        }
-    }
-
-    // 추천순
-    private int compareByRecommendation(TrainerDetail t1, TrainerDetail t2, Double userLatitude, Double userLongitude,
-                                        Integer memberId) {
-        // 로그인한 경우 관심사 활용
-//        if (memberId != null) {
-//            int matchCount1 = countInterestMatches(memberId, t1);
-//            int matchCount2 = countInterestMatches(memberId, t2);
-//            if (matchCount1 != matchCount2) {
-//                return Integer.compare(matchCount2, matchCount1);
-//            }
-//        }
-
-        // 높은 점수가 먼저 오도록 정렬
-        if (memberId == null) {
-            double score1 = calculateTrainerScore(t1, memberId, userLatitude, userLongitude);
-            double score2 = calculateTrainerScore(t2, memberId, userLatitude, userLongitude);
-            return Double.compare(score2, score1);
-        }
-        return compareByDistance(t1, t2, userLatitude, userLongitude);
+        return trainerSearchCache.get("search", request, pageable,
+                () -> searchTrainers(request, sortBy, 0L, pageable));
     }
 
-    // 관심사 매칭 개수
-    private int countInterestMatches(Integer memberId, TrainerDetail trainer) {
-        if (memberId == null || trainer == null || trainer.getMember() == null) {
-            return 0;
+    // 추천
+    public Page<TrainerDetailResponse> getRecommendedTrainers(TrainerSearchRequest request, Pageable pageable) {
+        long myInterestMask = findMyInterestMask();
+        if (myInterestMask != 0) {
+            return findPage(Specification.where(null), "recommendation", request, myInterestMask, pageable);
         }
-
-        Member member = memberRepository.findById(memberId).orElse(null);
-        if (member == null || member.getMemberInterests() == null || member.getMemberInterests().isEmpty()) {
-            return 0;
+        return trainerSearchCache.get("recommend", request, pageable,
+                () -> findPage(Specification.where(null), "recommendation", request, 0L, pageable));
+    }
+
+    private Page<TrainerDetailResponse> searchTrainers(TrainerSearchRequest request, String sortBy,
+                                                       long myInterestMask, Pageable pageable) {
+        Specification<TrainerDetail> specification = TrainerSpecification.filterByCriteria(request,
+                fullTextIndexStatus.isMemberNameIndexed(), fullTextIndexStatus.isGymAddressIndexed());
+        if (request.getInterests() != null && !request.getInterests().isEmpty()) {
+            long interestMask = Interest.maskOf(interestRepository.findByDisplayNameIn(request.getInterests()));
+            if (interestMask == 0) {
+                return Page.empty(pageable);
+            }
+            specification = specification.and(TrainerSpecification.hasAnyInterest(interestMask));
         }
-
-        Set<String> userInterests = member.getMemberInterests().stream()
-                .map(MemberInterest::getInterest)
-                .filter(interest -> interest != null)
-                .map(interest -> interest.getDisplayName())
-                .collect(Collectors.toSet());
-
-        if (trainer.getMember().getMemberInterests() == null || trainer.getMember().getMemberInterests().isEmpty()) {
-            return 0;
+        if (request.isNearbySearch()) {
+            // 위치 인덱스로 주변 헬스장을 먼저 찾고, 그 헬스장 소속 트레이너만 조회
+            Specification<TrainerDetail> nearby = findNearbyTrainers(specification, request);
+            if (nearby == null) {
+                return Page.empty(pageable);
+            }
+            specification = specification.and(nearby);
         }
 
-        Set<String> trainerInterests = trainer.getMember().getMemberInterests().stream()
-                .map(MemberInterest::getInterest)
-                .filter(interest -> interest != null)
-                .map(interest -> interest.getDisplayName())
-                .collect(Collectors.toSet());
-
-        return (int) userInterests.stream().filter(trainerInterests::contains).count();
+        return findPage(specification, sortBy, request, myInterestMask, pageable);
     }
 
-    // 트레이너 추천 점수 계산
-    private double calculateTrainerScore(TrainerDetail trainer, Integer memberId, double userLatitude,
-                                         double userLongitude) {
-        double score = 0.0;
+    private Page<TrainerDetailResponse> findPage(Specification<TrainerDetail> specification, String sortBy,
+                                                 TrainerSearchRequest request, long myInterestMask,
+                                                 Pageable pageable) {
+        Double myLatitude = (request.getMyLatitude() != null) ? request.getMyLatitude().doubleValue() : null;
+        Double myLongitude = (request.getMyLongitude() != null) ? request.getMyLongitude().doubleValue() : null;
 
-        // 관심사 매칭 점수
-        int interestMatches = countInterestMatches(memberId, trainer);
-        score += (interestMatches * 2);
+        // 정렬은 specification의 ORDER BY로 지정하므로 pageable의 sort는 사용하지 않음
+        // 페이지는 trainer_detail만 읽어 순서와 id를 정하고 (회원/헬스장 EntityGraph 없이), 내용은 trainer_card에서 채운다
+        Page<Integer> trainerIds = trainerDetailRepository.findBy(
+                        specification.and(TrainerSpecification.orderBy(sortBy, myLatitude, myLongitude, myInterestMask)),
+                        query -> query.page(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())))
+                .map(TrainerDetail::getTrainerId);
 
-        // 평점 + 리뷰 수 반영 (평균 평점 조정)
-        double averageRating = trainerReviewRepository.findAverageRatingByTrainerId(trainer.getTrainerId());
-        int reviewCount = trainerReviewRepository.countReviewsByTrainerId(trainer.getTrainerId());
-        double weightedRating =
-                ((averageRating * reviewCount) + (4.0 * 10)) / (reviewCount + 10); // Bayesian Average 방식
-        score += (weightedRating * 5);  // 평점 가중치 적용
+        return new PageImpl<>(getResponses(trainerIds.getContent()), pageable, trainerIds.getTotalElements());
+    }
 
-        // 거리 가중치 반영(가까울수록 높은 점수)
-        if (userLatitude != 0 && userLongitude != 0 && trainer.getGym() != null) {
-            double distance = calculateDistance(userLatitude, userLongitude, trainer.getGym().getLatitude(),
-                    trainer.getGym().getLongitude());
-            double distanceWeight = calculateDistanceWeight(distance);  // 거리 가중치 계산
-            score += distanceWeight;  // 거리 점수 추가
+    // radius 안 헬스장 소속 트레이너, limit이 있으면 그중 (검색 조건에 맞는) 가장 가까운 트레이너 limit명, 없으면 null
+    private Specification<TrainerDetail> findNearbyTrainers(Specification<TrainerDetail> filters,
+                                                            TrainerSearchRequest request) {
+        double myLatitude = request.getMyLatitude().doubleValue();
+        double myLongitude = request.getMyLongitude().doubleValue();
+        Integer limit = request.getLimit();
+        if (limit == null) {
+            List<Integer> gymIds = toGymIds(gymLocationIndex.findNearby(myLatitude, myLongitude,
+                    request.getRadius(), null));
+            return gymIds.isEmpty() ? null : TrainerSpecification.inGyms(gymIds);
         }
-
-        // 하루 이용 가능 여부 가산점
-        if (trainer.getIsOneDayAvailable()) {
-            score += 2;
+        if (limit <= 0) {
+            return null;
         }
 
-        return score;
-    }
-
-    // 거리 반비례 함수 적용
-    private double calculateDistanceWeight(double distance) {
-        return 10 / (1 + distance);
-    }
-
-    // 거리순
-    private int compareByDistance(TrainerDetail t1, TrainerDetail t2, Double myLatitude, Double myLongitude) {
-        if (t1 == null || t2 == null || t1.getGym() == null || t2.getGym() == null || myLatitude == 0
-                || myLongitude == 0) {
-            return 0;
+        // 조건에 맞는 트레이너가 없는 헬스장도 있으므로, limit명을 찾거나 헬스장이 더 없을 때까지 헬스장 수를 두 배씩 늘린다
+        int gymLimit = limit;
+        while (true) {
+            List<GymDistance> gyms = gymLocationIndex.findNearby(myLatitude, myLongitude, request.getRadius(),
+                    request.getRadius() != null ? null : gymLimit);
+            if (gyms.isEmpty()) {
+                return null;
+            }
+            List<Integer> trainerIds = trainerDetailRepository.findBy(filters
+                            .and(TrainerSpecification.inGyms(toGymIds(gyms)))
+                            .and(TrainerSpecification.orderBy("distance", myLatitude, myLongitude, 0L)),
+                    query -> query.limit(limit).all()).stream()
+                    .map(TrainerDetail::getTrainerId)
+                    .toList();
+            if (trainerIds.size() >= limit || request.getRadius() != null || gyms.size() < gymLimit) {
+                return trainerIds.isEmpty() ? null : TrainerSpecification.inTrainers(trainerIds);
+            }
+            gymLimit *= 2;
         }
-
-        double distance1 = calculateDistance(myLatitude, myLongitude, t1.getGym().getLatitude(),
-                t1.getGym().getLongitude());
-        double distance2 = calculateDistance(myLatitude, myLongitude, t2.getGym().getLatitude(),
-                t2.getGym().getLongitude());
-        return Double.compare(distance1, distance2);
-    }
-
-    // 거리 계산
-    private double calculateDistance(Double lat1, Double lon1, BigDecimal lat2, BigDecimal lon2) {
-        return Point2D.distance(lon1, lat1, lon2.doubleValue(), lat2.doubleValue());
     }
 
-    // 평점순
-    private int compareByRating(TrainerDetail t1, TrainerDetail t2) {
-        double rating1 = trainerReviewRepository.findAverageRatingByTrainerId(t1.getTrainerId());
-        double rating2 = trainerReviewRepository.findAverageRatingByTrainerId(t2.getTrainerId());
-        return Double.compare(rating2, rating1);
+    private List<Integer> toGymIds(List<GymDistance> gyms) {
+        return gyms.stream().map(GymDistance::getGymId).toList();
     }
 
-    // 리뷰순
-    private int compareByReviewCount(TrainerDetail t1, TrainerDetail t2) {
-        int reviewCount1 = trainerReviewRepository.countReviewsByTrainerId(t1.getTrainerId());
-        int reviewCount2 = trainerReviewRepository.countReviewsByTrainerId(t2.getTrainerId());
-        return Integer.compare(reviewCount2, reviewCount1);
-    }
-
-    // 추천
-    public List<TrainerDetailResponse> getRecommendedTrainers(TrainerSearchRequest request) {
-        Integer memberId = checkLogged();
-        List<TrainerDetail> trainers = trainerDetailRepository.findAll();
-        if (trainers == null || trainers.isEmpty()) {
-            return List.of();
+    // 로그인한 회원의 관심사 bitmask, 비로그인이면 0
+    private long findMyInterestMask() {
+        Integer memberId = userDetailsService.getMemberIdByContextHolder();
+        if (memberId == null) {
+            return 0L;
         }
-
-        double myLatitude = (request.getMyLatitude() != null) ? request.getMyLatitude().doubleValue() : 0.0;
-        double myLongitude = (request.getMyLongitude() != null) ? request.getMyLongitude().doubleValue() : 0.0;
-
-        trainers.sort((t1, t2) -> compareByRecommendation(t1, t2, myLatitude, myLongitude, memberId));
-
-        return getResponses(trainers);
+        Long interestMask = memberRepository.findInterestMaskById(memberId);
+        return interestMask != null ? interestMask : 0L;
     }
 
-    public List<TrainerDetailResponse> getResponses(List<TrainerDetail> trainers) {
-        double averageRating = trainerReviewRepository.findAverageRatingByTrainerId(trainers.get(0).getTrainerId());
-        Integer reviewCount = trainerReviewRepository.countReviewsByTrainerId(trainers.get(0).getTrainerId());
-
-        List<TrainerDetailResponse> responses = trainers.stream()
-                .map(trainer -> new TrainerDetailResponse(trainer,
-                        trainerSpecialtyRepository.findKeywordsByTrainerId(trainer.getTrainerId()),
-                        averageRating,
-                        reviewCount,
-                        menuRepository.findByTrainerId(trainer.getTrainerId()).stream()
-                                .map(MenuResponse::new)
-                                .toList()
-                ))
-                .toList();
-
-        return responses;
+    // 목록은 trainer_card 읽기 모델에서, 상세는 원본에서 조립
+    public List<TrainerDetailResponse> getResponses(List<Integer> trainerIds) {
+        return trainerCardService.toResponses(trainerIds);
     }
 
     public TrainerDetailResponse getResponse(TrainerDetail trainer) {
-        double averageRating = trainerReviewRepository.findAverageRatingByTrainerId(trainer.getTrainerId());
-        Integer reviewCount = trainerReviewRepository.countReviewsByTrainerId(trainer.getTrainerId());
-
-        return new TrainerDetailResponse(
-                trainer,
-                trainerSpecialtyRepository.findKeywordsByTrainerId(trainer.getTrainerId()),
-                averageRating,
-                reviewCount,
-                menuRepository.findByTrainerId(trainer.getTrainerId()).stream()
-                        .map(MenuResponse::new)
-                        .toList()
-        );
+        return trainerDetailResponseAssembler.toResponse(trainer);
     }
 }
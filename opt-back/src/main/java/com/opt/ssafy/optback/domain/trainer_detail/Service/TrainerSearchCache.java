@@ -0,0 +1,210 @@
+package com.opt.ssafy.optback.domain.trainer_detail.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.opt.ssafy.optback.domain.gym.event.GymChangedEvent;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchCacheStatsResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchRequest;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 비개인화 트레이너 검색/추천 결과 캐시 (같은 조건 + 같은 geohash 칸이면 같은 결과를 공유)
+// 트레이너/메뉴/리뷰 변경(TrainerChangedEvent), 헬스장 변경(GymChangedEvent), 트레이너 카드 갱신 시 전체 무효화하고,
+// 그 외 변경은 짧은 TTL로 최대 지연을 제한한다.
+// redis.enabled면 무효화 세대 번호를 Redis에 두어 다른 서버의 캐시도 함께 무효화된다.
+// 조회마다 Redis를 읽지 않도록 세대 번호는 generation-refresh-ms 동안 로컬에 두므로, 다른 서버의 무효화는 그만큼 늦게 보일 수 있다.
+// 로컬 저장소는 Caffeine (max-entries를 넘으면 자주 쓰이지 않는 항목부터 제거, ttl-ms 뒤 만료)
+@Slf4j
+@Component
+public class TrainerSearchCache {
+
+    private static final String GENERATION_KEY = "trainer-search-cache:generation";
+    // 약 1.2km x 0.6km 칸
+    private static final int GEOHASH_PRECISION = 6;
+    private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final long generationRefreshMillis;
+
+    private final Cache<String, Page<TrainerDetailResponse>> entries;
+    private final AtomicLong localGeneration = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Redis 세대 번호와 읽은 시각 (0이면 아직 읽지 않음)
+    private volatile String remoteGeneration = "0";
+    private volatile long remoteGenerationReadAt;
+
+    public TrainerSearchCache(StringRedisTemplate stringRedisTemplate,
+                              @Value("${trainer.search-cache.enabled:true}") boolean enabled,
+                              @Value("${trainer.search-cache.ttl-ms:30000}") long ttlMillis,
+                              @Value("${trainer.search-cache.max-entries:1000}") int maxEntries,
+                              @Value("${trainer.search-cache.redis.enabled:false}") boolean redisEnabled,
+                              @Value("${trainer.search-cache.redis.generation-refresh-ms:1000}")
+                              long generationRefreshMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.generationRefreshMillis = generationRefreshMillis;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    // 키의 위치는 geohash 칸 단위이므로, 같은 칸의 다른 위치 요청은 처음 조회한 위치 기준 결과를 공유한다
+    public Page<TrainerDetailResponse> get(String type, TrainerSearchRequest request, Pageable pageable,
+                                           Supplier<Page<TrainerDetailResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = generation() + "|" + type + "|" + keyOf(request, pageable);
+
+        Page<TrainerDetailResponse> cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회는 캐시 잠금 밖에서 (같은 키의 동시 미스는 각자 조회하고 마지막 결과가 남음)
+        Page<TrainerDetailResponse> page = loader.get();
+        Page<TrainerDetailResponse> snapshot = new PageImpl<>(List.copyOf(page.getContent()), pageable,
+                page.getTotalElements());
+        entries.put(key, snapshot);
+        return snapshot;
+    }
+
+    // 커밋 후에 무효화 (커밋 전 데이터로 다시 채워지지 않도록)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrainerChanged(TrainerChangedEvent event) {
+        invalidateAll();
+    }
+
+    // 반경 검색의 헬스장 목록과 헬스장 이름/주소가 바뀜
+    @EventListener
+    public void onGymChanged(GymChangedEvent event) {
+        invalidateAll();
+    }
+
+    public TrainerSearchCacheStatsResponse getStats() {
+        // 대기 중인 제거/만료를 반영한 뒤 크기를 읽는다
+        entries.cleanUp();
+        CacheStats stats = entries.stats();
+        return new TrainerSearchCacheStatsResponse(enabled, redisEnabled, stats.hitCount(), stats.missCount(),
+                stats.hitRate(), invalidations.get(), stats.evictionCount(), entries.estimatedSize());
+    }
+
+    public void invalidateAll() {
+        // 조회 중이던 요청이 이전 세대 키로 저장해도 다시 읽히지 않도록 세대를 먼저 올린다
+        localGeneration.incrementAndGet();
+        entries.invalidateAll();
+        invalidations.incrementAndGet();
+        if (redisEnabled) {
+            try {
+                Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+                if (generation != null) {
+                    remoteGeneration = String.valueOf(generation);
+                    remoteGenerationReadAt = System.currentTimeMillis();
+                }
+            } catch (DataAccessException e) {
+                log.warn("트레이너 검색 캐시 무효화 신호 전송 실패", e);
+            }
+        }
+    }
+
+    private String generation() {
+        String generation = String.valueOf(localGeneration.get());
+        if (!redisEnabled) {
+            return generation;
+        }
+        long now = System.currentTimeMillis();
+        if (now - remoteGenerationReadAt >= generationRefreshMillis) {
+            try {
+                remoteGeneration = Objects.requireNonNullElse(
+                        stringRedisTemplate.opsForValue().get(GENERATION_KEY), "0");
+            } catch (DataAccessException e) {
+                log.warn("트레이너 검색 캐시 세대 조회 실패", e);
+                remoteGeneration = "-";
+            }
+            remoteGenerationReadAt = now;
+        }
+        return generation + ":" + remoteGeneration;
+    }
+
+    private static String keyOf(TrainerSearchRequest request, Pageable pageable) {
+        String location = request.hasLocation()
+                ? geohash(request.getMyLatitude().doubleValue(), request.getMyLongitude().doubleValue())
+                : "-";
+        List<String> interests = request.getInterests() == null ? List.of()
+                : request.getInterests().stream().filter(Objects::nonNull).map(String::trim).distinct().sorted()
+                        .toList();
+        return String.join("|",
+                Objects.requireNonNullElse(request.getSortBy(), "recommendation"),
+                normalize(request.getName()),
+                normalize(request.getAddress()),
+                String.join(",", interests),
+                String.valueOf(request.getIsOneDayAvailable()),
+                location,
+                String.valueOf(request.getRadius()),
+                String.valueOf(request.getLimit()),
+                pageable.getPageNumber() + ":" + pageable.getPageSize());
+    }
+
+    private static String normalize(String term) {
+        return term == null ? "" : term.trim().replaceAll("\\s+", " ");
+    }
+
+    static String geohash(double latitude, double longitude) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(GEOHASH_PRECISION);
+        boolean even = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < GEOHASH_PRECISION) {
+            if (even) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            even = !even;
+            if (++bit == 5) {
+                hash.append(GEOHASH_BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+}
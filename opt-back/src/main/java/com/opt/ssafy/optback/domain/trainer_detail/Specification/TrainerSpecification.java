@@ -1,41 +1,68 @@
 package com.opt.ssafy.optback.domain.trainer_detail.Specification;
 
 import com.opt.ssafy.optback.domain.gym.entity.Gym;
-import com.opt.ssafy.optback.domain.member.entity.MemberInterest;
 import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchRequest;
 import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import com.opt.ssafy.optback.domain.trainer_review.entity.TrainerRatingStats;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
 
 public class TrainerSpecification {
 
+    private static final double KM_PER_DEGREE = 111.32;
+    // MySQL ngram_token_size 기본값
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    // 헬스장 정보가 없는 트레이너는 거리순 맨 뒤로
+    private static final double UNKNOWN_DISTANCE = 1.0E9;
+
     public static Specification<TrainerDetail> filterByCriteria(TrainerSearchRequest request) {
+        return filterByCriteria(request, false, false);
+    }
+
+    // nameFullText/addressFullText가 true면 이름/주소 검색에 FULLTEXT 인덱스(ngram) 사용, 인덱스로 찾을 수 없는 검색어는 LIKE로 처리
+    public static Specification<TrainerDetail> filterByCriteria(TrainerSearchRequest request, boolean nameFullText,
+                                                                boolean addressFullText) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             // 트레이너 이름 검색
             if (request.getName() != null && !request.getName().isEmpty()) {
-                predicates.add(criteriaBuilder.like(root.get("member").get("name"), "%" + request.getName() + "%"));
+                String booleanQuery = nameFullText ? toBooleanQuery(request.getName()) : null;
+                if (booleanQuery != null) {
+                    predicates.add(criteriaBuilder.greaterThan(criteriaBuilder.function("fulltext_match",
+                            Double.class, root.get("member").get("name"), criteriaBuilder.literal(booleanQuery)), 0.0));
+                } else {
+                    predicates.add(criteriaBuilder.like(root.get("member").get("name"),
+                            "%" + request.getName() + "%"));
+                }
             }
 
             // 주소 검색
             if (request.getAddress() != null && !request.getAddress().isEmpty()) {
-                Join<TrainerDetail, Gym> gymJoin = root.join("gym", JoinType.LEFT);
-                predicates.add(criteriaBuilder.or(
-                        criteriaBuilder.like(gymJoin.get("fullAddress"), "%" + request.getAddress() + "%"),
-                        criteriaBuilder.like(gymJoin.get("roadAddress"), "%" + request.getAddress() + "%")
-                ));
-            }
-
-            // 관심사 필터링
-            if (request.getInterests() != null && !request.getInterests().isEmpty()) {
-                Join<TrainerDetail, MemberInterest> interestJoin = root.join("member")
-                        .join("memberInterests", JoinType.LEFT);
-                predicates.add(interestJoin.get("interest").get("displayName").in(request.getInterests()));
+                Join<TrainerDetail, Gym> gymJoin = gymJoin(root);
+                String booleanQuery = addressFullText ? toBooleanQuery(request.getAddress()) : null;
+                if (booleanQuery != null) {
+                    predicates.add(criteriaBuilder.greaterThan(criteriaBuilder.function("fulltext_match2",
+                            Double.class, gymJoin.get("fullAddress"), gymJoin.get("roadAddress"),
+                            criteriaBuilder.literal(booleanQuery)), 0.0));
+                } else {
+                    predicates.add(criteriaBuilder.or(
+                            criteriaBuilder.like(gymJoin.get("fullAddress"), "%" + request.getAddress() + "%"),
+                            criteriaBuilder.like(gymJoin.get("roadAddress"), "%" + request.getAddress() + "%")
+                    ));
+                }
             }
 
             // 원데이 클래스
@@ -46,4 +73,132 @@ public class TrainerSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    // 검색어의 각 단어를 모두 포함 (+"단어"), ngram 토큰(2글자)보다 짧은 단어가 있으면 null
+    static String toBooleanQuery(String term) {
+        String[] words = term.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+");
+        StringBuilder booleanQuery = new StringBuilder();
+        for (String word : words) {
+            if (word.length() < NGRAM_TOKEN_SIZE) {
+                return null;
+            }
+            booleanQuery.append(booleanQuery.isEmpty() ? "" : " ").append("+\"").append(word).append('"');
+        }
+        return booleanQuery.isEmpty() ? null : booleanQuery.toString();
+    }
+
+    // 관심사 bitmask가 하나라도 겹치는 트레이너만
+    public static Specification<TrainerDetail> hasAnyInterest(long interestMask) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThan(interestMatchCount(root, criteriaBuilder, interestMask), 0);
+    }
+
+    // 위치 인덱스로 찾은 주변 헬스장 소속 트레이너만
+    public static Specification<TrainerDetail> inGyms(Collection<Integer> gymIds) {
+        return (root, query, criteriaBuilder) -> root.get("gym").get("id").in(gymIds);
+    }
+
+    // 가까운 트레이너 limit명 등 미리 고른 트레이너만
+    public static Specification<TrainerDetail> inTrainers(Collection<Integer> trainerIds) {
+        return (root, query, criteriaBuilder) -> root.get("trainerId").in(trainerIds);
+    }
+
+    // 정렬을 쿼리의 ORDER BY로 지정 (count 쿼리에는 적용하지 않음), 페이지 경계가 흔들리지 않도록 마지막에 trainerId
+    // recommendation 점수 = 관심사 일치 수 * 2 + Bayesian 평점 * 5 + 10 / (1 + 거리 km) + 원데이 가능 시 2
+    public static Specification<TrainerDetail> orderBy(String sortBy, Double myLatitude, Double myLongitude,
+                                                       long myInterestMask) {
+        return (root, query, criteriaBuilder) -> {
+            if (!TrainerDetail.class.equals(query.getResultType())) {
+                return null;
+            }
+            boolean hasLocation = myLatitude != null && myLongitude != null && myLatitude != 0 && myLongitude != 0;
+
+            List<Order> orders = new ArrayList<>();
+            switch (sortBy) {
+                case "distance":
+                    if (hasLocation) {
+                        orders.add(criteriaBuilder.asc(criteriaBuilder.coalesce(
+                                distanceKm(root, criteriaBuilder, myLatitude, myLongitude), UNKNOWN_DISTANCE)));
+                    }
+                    break;
+                case "rating":
+                    orders.add(criteriaBuilder.desc(ratingStat(root, query, criteriaBuilder, "averageRating", 0.0)));
+                    break;
+                case "review":
+                    orders.add(criteriaBuilder.desc(ratingStat(root, query, criteriaBuilder, "reviewCount", 0)));
+                    break;
+                case "recommendation":
+                default:
+                    orders.add(criteriaBuilder.desc(recommendationScore(root, query, criteriaBuilder, hasLocation,
+                            myLatitude, myLongitude, myInterestMask)));
+                    break;
+            }
+            orders.add(criteriaBuilder.asc(root.get("trainerId")));
+            query.orderBy(orders);
+            return null;
+        };
+    }
+
+    private static Expression<Double> recommendationScore(Root<TrainerDetail> root, CriteriaQuery<?> query,
+                                                          CriteriaBuilder cb, boolean hasLocation,
+                                                          Double myLatitude, Double myLongitude,
+                                                          long myInterestMask) {
+        Expression<Double> score = cb.prod(ratingStat(root, query, cb, "bayesianScore",
+                TrainerRatingStats.bayesianScore(0, 0)), 5.0);
+
+        score = cb.sum(score, cb.<Double>selectCase()
+                .when(cb.isTrue(root.get("isOneDayAvailable")), 2.0)
+                .otherwise(0.0));
+
+        if (hasLocation) {
+            Expression<Double> distanceWeight = cb.quot(cb.literal(10.0),
+                    cb.sum(cb.literal(1.0), distanceKm(root, cb, myLatitude, myLongitude))).as(Double.class);
+            score = cb.sum(score, cb.coalesce(distanceWeight, 0.0));
+        }
+
+        if (myInterestMask != 0) {
+            score = cb.sum(score, cb.prod(interestMatchCount(root, cb, myInterestMask), 2).as(Double.class));
+        }
+        return score;
+    }
+
+    // 트레이너와 겹치는 관심사 수 = bitCount(트레이너 bitmask & interestMask)
+    private static Expression<Integer> interestMatchCount(Root<TrainerDetail> root, CriteriaBuilder cb,
+                                                          long interestMask) {
+        return cb.function("bit_match_count", Integer.class,
+                root.get("member").get("interestMask"), cb.literal(interestMask));
+    }
+
+    // trainer_rating_stats 값 (집계가 없으면 기본값)
+    private static <T> Expression<T> ratingStat(Root<TrainerDetail> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                String attribute, T defaultValue) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) defaultValue.getClass();
+        Subquery<T> stat = query.subquery(type);
+        Root<TrainerRatingStats> stats = stat.from(TrainerRatingStats.class);
+        stat.select(stats.get(attribute)).where(cb.equal(stats.get("trainerId"), root.get("trainerId")));
+        return cb.coalesce(stat, defaultValue);
+    }
+
+    // 정방형 근사 거리 (km), 검색 반경 수준의 거리에서는 haversine과 순서가 같다
+    private static Expression<Double> distanceKm(Root<TrainerDetail> root, CriteriaBuilder cb,
+                                                 double myLatitude, double myLongitude) {
+        Join<TrainerDetail, Gym> gym = gymJoin(root);
+        double cos = Math.cos(Math.toRadians(myLatitude));
+        Expression<BigDecimal> dLat = cb.diff(gym.get("latitude"), BigDecimal.valueOf(myLatitude));
+        Expression<BigDecimal> dLng = cb.prod(cb.diff(gym.get("longitude"), BigDecimal.valueOf(myLongitude)),
+                BigDecimal.valueOf(cos));
+        Expression<Double> squared = cb.sum(cb.prod(dLat, dLat), cb.prod(dLng, dLng)).as(Double.class);
+        return cb.prod(cb.sqrt(squared), KM_PER_DEGREE).as(Double.class);
+    }
+
+    // 주소 검색, 거리 정렬, 추천 점수가 같은 gym LEFT JOIN 하나를 쓰도록 이미 있는 join을 재사용
+    @SuppressWarnings("unchecked")
+    private static Join<TrainerDetail, Gym> gymJoin(Root<TrainerDetail> root) {
+        return root.getJoins().stream()
+                .filter(join -> "gym".equals(join.getAttribute().getName()) && join.getJoinType() == JoinType.LEFT)
+                .map(join -> (Join<TrainerDetail, Gym>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("gym", JoinType.LEFT));
+    }
 }
@@ -2,14 +2,16 @@ package com.opt.ssafy.optback.domain.trainer_detail.controller;
 
 import com.opt.ssafy.optback.domain.member.repository.TrainerSpecialtyRepository;
 import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerDetailService;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerSearchCache;
 import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchCacheStatsResponse;
 import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,6 +26,7 @@ public class TrainerDetailController {
 
     private final TrainerDetailService trainerService;
     private final TrainerSpecialtyRepository trainerSpecialtyRepository;
+    private final TrainerSearchCache trainerSearchCache;
 
     // 트레이너 상세 정보 조회
     @GetMapping("/details/{trainer_id}")
@@ -42,25 +45,20 @@ public class TrainerDetailController {
     @PostMapping("/search")
     public ResponseEntity<Page<TrainerDetailResponse>> getSearchTrainers(
             @RequestBody TrainerSearchRequest request, Pageable pageable) {
-        List<TrainerDetailResponse> responses = trainerService.searchAndSortTrainers(request);
-
-        return ResponseEntity.ok(convertListToPage(responses, pageable));
+        return ResponseEntity.ok(trainerService.searchAndSortTrainers(request, pageable));
     }
 
     @PostMapping("/recommends")
     public ResponseEntity<Page<TrainerDetailResponse>> getRecommendTrainers(
             @RequestBody TrainerSearchRequest request, Pageable pageable) {
-        List<TrainerDetailResponse> responses = trainerService.getRecommendedTrainers(request);
-
-        return ResponseEntity.ok(convertListToPage(responses, pageable));
+        return ResponseEntity.ok(trainerService.getRecommendedTrainers(request, pageable));
     }
 
-    // Pageable 변환용 메서드
-    private <T> Page<T> convertListToPage(List<T> list, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-        List<T> subList = list.subList(start, end);
-        return new PageImpl<>(subList, pageable, list.size());
+    // GET /trainers/search-cache/stats - 검색 결과 캐시 hit/miss (ADMIN 전용)
+    @GetMapping("/search-cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TrainerSearchCacheStatsResponse> getSearchCacheStats() {
+        return ResponseEntity.ok(trainerSearchCache.getStats());
     }
 
 }
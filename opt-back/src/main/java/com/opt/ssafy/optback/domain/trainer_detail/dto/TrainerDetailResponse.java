@@ -1,6 +1,7 @@
 package com.opt.ssafy.optback.domain.trainer_detail.dto;
 
 import com.opt.ssafy.optback.domain.menu.dto.MenuResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerCard;
 import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
 import java.util.List;
 import lombok.Getter;
@@ -38,4 +39,20 @@ public class TrainerDetailResponse {
         this.reviewCount = reviewCount;
         this.menus = menus;
     }
+
+    public TrainerDetailResponse(TrainerCard card, List<String> keywords, List<MenuResponse> menus) {
+        this.trainerId = card.getTrainerId();
+        this.trainerNickname = card.getNickname();
+        this.isOneDayAvailable = card.isOneDayAvailable();
+        this.intro = card.getIntro();
+        this.experienceYears = card.getExperienceYears() != null ? card.getExperienceYears() : 0;
+        this.availableHours = card.getAvailableHours();
+        this.keywords = keywords;
+        this.trainerProfileImage = card.getProfileImage();
+        this.gymName = card.getGymName();
+        this.gymAddress = card.getGymAddress();
+        this.averageRating = card.getAverageRating();
+        this.reviewCount = card.getReviewCount();
+        this.menus = menus;
+    }
 }
@@ -0,0 +1,17 @@
+package com.opt.ssafy.optback.domain.trainer_detail.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrainerSearchCacheStatsResponse {
+    private boolean enabled;
+    private boolean redisEnabled;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long invalidations;
+    private long evictions;
+    private long size;
+}
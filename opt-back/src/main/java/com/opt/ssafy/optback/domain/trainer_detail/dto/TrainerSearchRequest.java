@@ -18,5 +18,17 @@ public class TrainerSearchRequest {
     private String address;
     private List<String> interests;
     private String sortBy;
+    // 내 위치 기준 검색 반경 (km)
+    private Double radius;
+    // 위치 기준 검색 시 가장 가까운 트레이너 최대 수 (radius와 함께 쓰면 반경 안에서)
+    private Integer limit;
+
+    public boolean hasLocation() {
+        return myLatitude != null && myLongitude != null;
+    }
+
+    public boolean isNearbySearch() {
+        return hasLocation() && (radius != null || limit != null);
+    }
 
 }
@@ -0,0 +1,80 @@
+package com.opt.ssafy.optback.domain.trainer_detail.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 트레이너 목록 카드 읽기 모델 (TrainerDetail, Member, Gym, TrainerSpecialty, Menu, 리뷰 집계를 한 행으로)
+// TrainerChangedEvent를 받아 TrainerCardProjector가 비동기로 갱신하며, 목록 조회는 트레이너당 이 행 하나만 읽는다
+// 컬럼 추가: ALTER TABLE trainer_card ADD COLUMN source_version BIGINT NOT NULL DEFAULT 0,
+//           ADD COLUMN projected_version BIGINT NOT NULL DEFAULT 0
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "trainer_card")
+public class TrainerCard {
+
+    @Id
+    @Column(name = "trainer_id")
+    private Integer trainerId;
+
+    @Column(name = "nickname", length = 10)
+    private String nickname;
+
+    @Column(name = "profile_image", length = 255)
+    private String profileImage;
+
+    @Column(name = "is_one_day_available", nullable = false)
+    private boolean oneDayAvailable;
+
+    @Column(name = "intro", columnDefinition = "TEXT")
+    private String intro;
+
+    @Column(name = "experience_years")
+    private Integer experienceYears;
+
+    @Column(name = "available_hours", length = 10)
+    private String availableHours;
+
+    @Column(name = "gym_name")
+    private String gymName;
+
+    @Column(name = "gym_address")
+    private String gymAddress;
+
+    // JSON 배열 (List<String>)
+    @Column(name = "keywords", columnDefinition = "TEXT")
+    private String keywords;
+
+    // JSON 배열 (List<MenuResponse>)
+    @Column(name = "menus", columnDefinition = "TEXT")
+    private String menus;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "projected_at", nullable = false)
+    private LocalDateTime projectedAt;
+
+    // 원본이 바뀔 때 변경 트랜잭션에서 1씩 증가 (엔티티 저장으로는 덮어쓰지 않음)
+    @Column(name = "source_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private long sourceVersion;
+
+    // 카드를 만들 때 읽은 source_version, source_version보다 작으면 아직 반영되지 않은 변경이 있음
+    @Column(name = "projected_version", nullable = false)
+    private long projectedVersion;
+
+}
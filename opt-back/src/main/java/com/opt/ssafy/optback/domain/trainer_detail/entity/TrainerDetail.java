@@ -37,7 +37,8 @@ public class TrainerDetail {
     @Column(name = "is_one_day_available", nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
     private Boolean isOneDayAvailable = false;
 
-    @ManyToOne
+    // 목록/상세 조회는 TrainerDetailRepository의 EntityGraph로 함께 조회
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gym_id")
     private Gym gym;
 
@@ -50,7 +51,8 @@ public class TrainerDetail {
     @Column(name = "available_hours", length = 10)
     private String availableHours;
 
-    @OneToOne
+    // 트레이너는 항상 회원이 있으므로 optional = false (아니면 프록시를 만들지 못해 목록 조회마다 회원을 한 건씩 읽는다)
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "trainer_id", referencedColumnName = "id")
     private Member member;
 
@@ -0,0 +1,22 @@
+package com.opt.ssafy.optback.domain.trainer_detail.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 트레이너 카드/검색 결과에 영향을 주는 변경 (트레이너 정보, 전문 분야, 메뉴, 리뷰)
+// trainerId가 null이면 전체 트레이너
+@Getter
+@AllArgsConstructor
+public class TrainerChangedEvent {
+
+    private final Integer trainerId;
+
+    public static TrainerChangedEvent all() {
+        return new TrainerChangedEvent(null);
+    }
+
+    public boolean isAll() {
+        return trainerId == null;
+    }
+
+}
@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -35,6 +37,14 @@ public class TrainerReviewController {
 
     }
 
+    // 리뷰 삭제
+    @PreAuthorize("isAuthenticated()")
+    @DeleteMapping("/{review_id}")
+    public ResponseEntity<Void> deleteTrainerReview(@PathVariable("review_id") int reviewId) {
+        trainerReviewService.deleteReview(reviewId);
+        return ResponseEntity.ok().build();
+    }
+
     // 트레이너 리뷰 조회
     @GetMapping("/{trainer_id}")
     public ResponseEntity<Page<TrainerReviewResponse>> getReviewsByTrainerId(@PathVariable("trainer_id") int trainerId,
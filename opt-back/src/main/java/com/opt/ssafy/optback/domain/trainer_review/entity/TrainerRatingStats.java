@@ -0,0 +1,47 @@
+package com.opt.ssafy.optback.domain.trainer_review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 트레이너별 리뷰 집계 (삭제되지 않은 리뷰 기준), 리뷰 저장/삭제 시 같은 트랜잭션에서 증감
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "trainer_rating_stats", indexes = {
+        @Index(name = "idx_trainer_rating_stats_bayesian", columnList = "bayesian_score"),
+        @Index(name = "idx_trainer_rating_stats_review_count", columnList = "review_count"),
+        @Index(name = "idx_trainer_rating_stats_average_rating", columnList = "average_rating")
+})
+public class TrainerRatingStats {
+
+    // Bayesian Average 사전값: 평균 4.0점의 리뷰 10개가 있다고 가정
+    public static final double PRIOR_RATING = 4.0;
+    public static final int PRIOR_WEIGHT = 10;
+
+    @Id
+    @Column(name = "trainer_id")
+    private Integer trainerId;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "rate_sum", nullable = false)
+    private long rateSum;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "bayesian_score", nullable = false)
+    private double bayesianScore;
+
+    // (별점 합계 + 사전 평균 * 가중치) / (리뷰 수 + 가중치), trainer_rating_stats 쿼리와 같은 식
+    public static double bayesianScore(int reviewCount, long rateSum) {
+        return (rateSum + PRIOR_RATING * PRIOR_WEIGHT) / (reviewCount + PRIOR_WEIGHT);
+    }
+}
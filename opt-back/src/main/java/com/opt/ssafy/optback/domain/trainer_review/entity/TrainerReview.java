@@ -63,4 +63,12 @@ public class TrainerReview {
         }
         this.images.add(image);
     }
+
+    public boolean isRemoved() {
+        return Boolean.TRUE.equals(isDeleted);
+    }
+
+    public void delete() {
+        this.isDeleted = true;
+    }
 }
@@ -3,6 +3,7 @@ package com.opt.ssafy.optback.domain.trainer_review.exception;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -28,6 +29,22 @@ public class TrainerReviewExceptionHandler {
         return new ResponseEntity<>(map, HttpStatus.NOT_FOUND);
     }
 
+    // 본인 리뷰가 아님
+    @ExceptionHandler(TrainerReviewForbiddenException.class)
+    ResponseEntity<Map<String, String>> handleForbiddenException(TrainerReviewForbiddenException e) {
+        Map<String, String> map = new HashMap<>();
+        map.put("error", e.getMessage());
+        return new ResponseEntity<>(map, HttpStatus.FORBIDDEN);
+    }
+
+    // @PreAuthorize 거부는 아래 기타 예외(400)로 떨어지지 않도록 403으로 응답
+    @ExceptionHandler(AccessDeniedException.class)
+    ResponseEntity<Map<String, String>> handleAccessDeniedException(AccessDeniedException e) {
+        Map<String, String> map = new HashMap<>();
+        map.put("error", "권한이 없습니다");
+        return new ResponseEntity<>(map, HttpStatus.FORBIDDEN);
+    }
+
     //기타 예외
     @ExceptionHandler(Exception.class)
     ResponseEntity<Map<String, String>> handleException(Exception e) {
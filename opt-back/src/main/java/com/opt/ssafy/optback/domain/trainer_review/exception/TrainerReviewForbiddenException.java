@@ -0,0 +1,7 @@
+package com.opt.ssafy.optback.domain.trainer_review.exception;
+
+public class TrainerReviewForbiddenException extends RuntimeException {
+    public TrainerReviewForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.opt.ssafy.optback.domain.trainer_review.repository;
+
+import com.opt.ssafy.optback.domain.trainer_review.entity.TrainerRatingStats;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrainerRatingStatsRepository extends JpaRepository<TrainerRatingStats, Integer> {
+
+    List<TrainerRatingStats> findByTrainerIdIn(Collection<Integer> trainerIds);
+
+    // average_rating 컬럼 추가 전에 만들어져 평균이 비어 있는 집계
+    @Query("SELECT COUNT(s) > 0 FROM TrainerRatingStats s WHERE s.rateSum > 0 AND s.averageRating = 0")
+    boolean existsMissingAverageRating();
+
+    // priorSum/priorWeight는 TrainerRatingStats의 사전 분포 상수 (PRIOR_RATING * PRIOR_WEIGHT, PRIOR_WEIGHT)
+    // 리뷰 수/별점 합계를 원자적으로 증감하고 Bayesian 점수를 다시 계산 (ON DUPLICATE KEY UPDATE는 왼쪽부터 순서대로 적용)
+    @Modifying
+    @Transactional
+    @Query(value = """
+                INSERT INTO trainer_rating_stats (trainer_id, review_count, rate_sum, average_rating, bayesian_score)
+                VALUES (:trainerId, GREATEST(:countDelta, 0), GREATEST(:rateDelta, 0),
+                        IF(:countDelta > 0, GREATEST(:rateDelta, 0) / :countDelta, 0),
+                        (GREATEST(:rateDelta, 0) + :priorSum) / (GREATEST(:countDelta, 0) + :priorWeight))
+                ON DUPLICATE KEY UPDATE
+                    review_count = GREATEST(review_count + :countDelta, 0),
+                    rate_sum = GREATEST(rate_sum + :rateDelta, 0),
+                    average_rating = IF(review_count > 0, rate_sum / review_count, 0),
+                    bayesian_score = (rate_sum + :priorSum) / (review_count + :priorWeight)
+            """, nativeQuery = true)
+    int applyReview(@Param("trainerId") int trainerId, @Param("countDelta") int countDelta,
+                    @Param("rateDelta") int rateDelta, @Param("priorSum") double priorSum,
+                    @Param("priorWeight") int priorWeight);
+
+    // trainer_review 기준으로 전체 집계를 다시 계산
+    @Modifying
+    @Transactional
+    @Query(value = """
+                INSERT INTO trainer_rating_stats (trainer_id, review_count, rate_sum, average_rating, bayesian_score)
+                SELECT tr.trainer_id, COUNT(*), SUM(tr.rate), AVG(tr.rate), (SUM(tr.rate) + :priorSum) / (COUNT(*) + :priorWeight)
+                FROM trainer_review tr
+                WHERE tr.is_deleted IS NULL OR tr.is_deleted = false
+                GROUP BY tr.trainer_id
+                ON DUPLICATE KEY UPDATE
+                    review_count = VALUES(review_count),
+                    rate_sum = VALUES(rate_sum),
+                    average_rating = VALUES(average_rating),
+                    bayesian_score = VALUES(bayesian_score)
+            """, nativeQuery = true)
+    int rebuildAll(@Param("priorSum") double priorSum, @Param("priorWeight") int priorWeight);
+}
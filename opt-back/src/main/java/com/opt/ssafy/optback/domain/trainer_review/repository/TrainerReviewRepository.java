@@ -17,10 +17,12 @@ public interface TrainerReviewRepository extends JpaRepository<TrainerReview, In
     List<TrainerReview> findByTrainerDetailAndIsDeletedIsFalse(TrainerDetail trainerDetail, Pageable pageable);
 
     // 트레이너 평균 별점
-    @Query("SELECT COALESCE(AVG(tr.rate), 0) FROM TrainerReview tr WHERE tr.trainerDetail.trainerId = :trainerId")
+    @Query("SELECT COALESCE(AVG(tr.rate), 0) FROM TrainerReview tr WHERE tr.trainerDetail.trainerId = :trainerId "
+            + "AND (tr.isDeleted IS NULL OR tr.isDeleted = false)")
     Double findAverageRatingByTrainerId(@Param("trainerId") Integer trainerId);
 
     // 트레이너의 리뷰 개수
-    @Query("SELECT COUNT(tr) FROM TrainerReview tr WHERE tr.trainerDetail.trainerId = :trainerId")
+    @Query("SELECT COUNT(tr) FROM TrainerReview tr WHERE tr.trainerDetail.trainerId = :trainerId "
+            + "AND (tr.isDeleted IS NULL OR tr.isDeleted = false)")
     Integer countReviewsByTrainerId(@Param("trainerId") Integer trainerId);
 }
@@ -0,0 +1,74 @@
+package com.opt.ssafy.optback.domain.trainer_review.service;
+
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
+import com.opt.ssafy.optback.domain.trainer_review.entity.TrainerRatingStats;
+import com.opt.ssafy.optback.domain.trainer_review.repository.TrainerRatingStatsRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TrainerRatingStatsService {
+
+    // 집계 SQL에 바인딩하는 사전 분포 (엔티티의 bayesianScore와 같은 값)
+    private static final double PRIOR_SUM = TrainerRatingStats.PRIOR_RATING * TrainerRatingStats.PRIOR_WEIGHT;
+
+    private final TrainerRatingStatsRepository trainerRatingStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 리뷰 작성 시 호출 (리뷰 저장과 같은 트랜잭션)
+    @Transactional
+    public void addReview(int trainerId, int rate) {
+        trainerRatingStatsRepository.applyReview(trainerId, 1, rate, PRIOR_SUM, TrainerRatingStats.PRIOR_WEIGHT);
+        eventPublisher.publishEvent(new TrainerChangedEvent(trainerId));
+    }
+
+    // 리뷰 삭제 시 호출 (리뷰 soft delete와 같은 트랜잭션)
+    @Transactional
+    public void removeReview(int trainerId, int rate) {
+        trainerRatingStatsRepository.applyReview(trainerId, -1, -rate, PRIOR_SUM, TrainerRatingStats.PRIOR_WEIGHT);
+        eventPublisher.publishEvent(new TrainerChangedEvent(trainerId));
+    }
+
+    // 검색 한 번에 조회 한 번, 집계가 없는 트레이너는 map에 없음
+    public Map<Integer, TrainerRatingStats> findByTrainerIds(Collection<Integer> trainerIds) {
+        if (trainerIds.isEmpty()) {
+            return Map.of();
+        }
+        return trainerRatingStatsRepository.findByTrainerIdIn(trainerIds).stream()
+                .collect(Collectors.toMap(TrainerRatingStats::getTrainerId, Function.identity()));
+    }
+
+    @Transactional
+    public int rebuild() {
+        int rows = trainerRatingStatsRepository.rebuildAll(PRIOR_SUM, TrainerRatingStats.PRIOR_WEIGHT);
+        eventPublisher.publishEvent(TrainerChangedEvent.all());
+        log.info("트레이너 평점 집계 재계산 완료 ({}건)", rows);
+        return rows;
+    }
+
+    // 집계 테이블이 비어 있거나 (최초 배포) average_rating이 비어 있는 행이 있으면 기존 리뷰로 다시 채움
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        try {
+            if (trainerRatingStatsRepository.count() == 0 || trainerRatingStatsRepository.existsMissingAverageRating()) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("트레이너 평점 집계 초기화 실패", e);
+        }
+    }
+}
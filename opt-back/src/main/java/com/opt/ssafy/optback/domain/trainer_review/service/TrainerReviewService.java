@@ -9,6 +9,7 @@ import com.opt.ssafy.optback.domain.trainer_review.dto.TrainerReviewRequest;
 import com.opt.ssafy.optback.domain.trainer_review.dto.TrainerReviewResponse;
 import com.opt.ssafy.optback.domain.trainer_review.dto.TrainerReviewSummaryResponse;
 import com.opt.ssafy.optback.domain.trainer_review.entity.TrainerReview;
+import com.opt.ssafy.optback.domain.trainer_review.exception.TrainerReviewForbiddenException;
 import com.opt.ssafy.optback.domain.trainer_review.exception.TrainerReviewNotFoundException;
 import com.opt.ssafy.optback.domain.trainer_review.exception.TrainerReviewNotSaveException;
 import com.opt.ssafy.optback.domain.trainer_review.repository.TrainerReviewRepository;
@@ -31,6 +32,7 @@ public class TrainerReviewService {
     private final UserDetailsServiceImpl userDetailsService;
     private final TrainerDetailRepository trainerDetailRepository;
     private final TrainerDetailService trainerDetailService;
+    private final TrainerRatingStatsService trainerRatingStatsService;
 
     // 리뷰 저장
     @Transactional
@@ -82,10 +84,27 @@ public class TrainerReviewService {
         }
 
         TrainerReview savedTrainerReview = trainerReviewRepository.save(newTrainerReview);
+        trainerRatingStatsService.addReview(trainerDetail.getTrainerId(), savedTrainerReview.getRate());
 
         return savedTrainerReview;
     }
 
+    // 리뷰 삭제 (soft delete, 작성자만 가능)
+    @Transactional
+    public void deleteReview(int reviewId) {
+        Member member = userDetailsService.getMemberByContextHolder();
+
+        TrainerReview review = trainerReviewRepository.findById(reviewId)
+                .filter(found -> !found.isRemoved())
+                .orElseThrow(() -> new TrainerReviewNotFoundException("존재하지 않는 리뷰입니다."));
+        if (review.getReviewerId() != member.getId()) {
+            throw new TrainerReviewForbiddenException("본인이 작성한 리뷰만 삭제할 수 있습니다.");
+        }
+
+        review.delete();
+        trainerRatingStatsService.removeReview(review.getTrainerDetail().getTrainerId(), review.getRate());
+    }
+
     // 트레이너 ID로 리뷰 조회
     public Page<TrainerReviewResponse> getReviewsByTrainerId(int trainerId, Pageable pageable) {
         TrainerDetail trainerDetail = trainerDetailRepository.findById(trainerId)
@@ -0,0 +1,71 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeContributionCache;
+import com.opt.ssafy.optback.domain.challenge.dto.ContributionResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ChallengeContributionCacheTest {
+
+    private final ChallengeContributionCache cache = new ChallengeContributionCache();
+
+    @Test
+    void 한_챌린지를_계산하는_동안에도_다른_챌린지_조회와_무효화는_기다리지_않는다() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<ContributionResponse>> slow = CompletableFuture.supplyAsync(() ->
+                cache.get(1, () -> {
+                    loading.countDown();
+                    await(release);
+                    return List.of();
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<List<ContributionResponse>> other = CompletableFuture.supplyAsync(() ->
+                cache.get(2, () -> List.of(new ContributionResponse(7, "member", 10, 100.0, false))));
+        CompletableFuture<Void> invalidated = CompletableFuture.runAsync(() -> cache.invalidate(1));
+
+        // then
+        assertThat(other.get(1, TimeUnit.SECONDS)).hasSize(1);
+        invalidated.get(1, TimeUnit.SECONDS);
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void 계산에_실패하면_캐시하지_않고_다음_조회에서_다시_계산한다() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> cache.get(1, () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("db");
+        })).isInstanceOf(IllegalStateException.class);
+        List<ContributionResponse> contributions = cache.get(1, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // then
+        assertThat(contributions).isEmpty();
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeResponseAssembler;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeService;
+import com.opt.ssafy.optback.domain.challenge.dto.ChallengeCursorResponse;
+import com.opt.ssafy.optback.domain.challenge.exception.ChallengeCursorException;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+public class ChallengeCursorTest {
+
+    @Mock
+    private ChallengeRepository challengeRepository;
+
+    @Mock
+    private ChallengeResponseAssembler challengeResponseAssembler;
+
+    @InjectMocks
+    private ChallengeService challengeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void 커서_날짜와_id_중_하나만_있으면_거절한다() {
+        // when, then
+        assertThatThrownBy(() -> challengeService.getOngoingChallenges(LocalDate.now(), null, 10))
+                .isInstanceOf(ChallengeCursorException.class);
+        assertThatThrownBy(() -> challengeService.getEndedChallenges(null, 3, 10))
+                .isInstanceOf(ChallengeCursorException.class);
+        assertThatThrownBy(() -> challengeService.getUpcomingChallenges(LocalDate.now(), null, 10))
+                .isInstanceOf(ChallengeCursorException.class);
+        verifyNoInteractions(challengeRepository);
+    }
+
+    @Test
+    void 커서가_없으면_오늘부터_조회한다() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(challengeRepository.findEndedBefore(any(), any(), anyInt(), any(Pageable.class))).thenReturn(List.of());
+        when(challengeResponseAssembler.toResponses(List.of())).thenReturn(List.of());
+
+        // when
+        ChallengeCursorResponse response = challengeService.getEndedChallenges(null, null, 10);
+
+        // then
+        verify(challengeRepository).findEndedBefore(eq(today), eq(today), eq(0), any(Pageable.class));
+        assertThat(response.isHasNext()).isFalse();
+    }
+}
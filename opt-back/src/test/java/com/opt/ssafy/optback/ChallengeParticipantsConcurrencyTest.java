@@ -0,0 +1,125 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeContributionCache;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeLeaderboardService;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeResponseAssembler;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeService;
+import com.opt.ssafy.optback.domain.challenge.dto.JoinChallengeRequest;
+import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeMemberRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
+import com.opt.ssafy.optback.domain.member.entity.Member;
+import com.opt.ssafy.optback.global.application.S3Service;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "challenge.image.bucket.name=test"
+})
+@Import(ChallengeService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ChallengeParticipantsConcurrencyTest {
+
+    private static final int CONCURRENT_JOINS = 500;
+    private static final int MAX_PARTICIPANTS = 100;
+
+    @Autowired
+    private ChallengeService challengeService;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private ChallengeMemberRepository challengeMemberRepository;
+
+    @MockitoBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private ChallengeLeaderboardService challengeLeaderboardService;
+
+    @MockitoBean
+    private ChallengeResponseAssembler challengeResponseAssembler;
+
+    @MockitoBean
+    private ChallengeContributionCache challengeContributionCache;
+
+    // 요청 스레드마다 다른 회원으로 참여
+    private final ThreadLocal<Member> currentMember = new ThreadLocal<>();
+
+    @Test
+    void 동시_참여_500건에도_정원을_초과하지_않는다() throws InterruptedException {
+        // given
+        Challenge challenge = challengeRepository.save(Challenge.builder()
+                .type("NORMAL")
+                .title("burst")
+                .status("OPEN")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(7))
+                .currentParticipants(0)
+                .maxParticipants(MAX_PARTICIPANTS)
+                .progress(0F)
+                .progressTotal(0)
+                .build());
+        when(userDetailsService.getMemberByContextHolder()).thenAnswer(invocation -> currentMember.get());
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_JOINS);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < CONCURRENT_JOINS; i++) {
+            int memberId = i + 1;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    currentMember.set(Member.builder().id(memberId).build());
+                    JoinChallengeRequest request = new JoinChallengeRequest();
+                    request.setChallengeId(challenge.getId());
+                    challengeService.joinChallenge(request);
+                    joined.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    currentMember.remove();
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        Challenge result = challengeRepository.findById(challenge.getId()).orElseThrow();
+        assertThat(joined.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(CONCURRENT_JOINS - MAX_PARTICIPANTS);
+        assertThat(result.getCurrentParticipants()).isLessThanOrEqualTo(result.getMaxParticipants());
+        assertThat(result.getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(challengeMemberRepository.findByChallengeId(challenge.getId())).hasSize(MAX_PARTICIPANTS);
+    }
+
+}
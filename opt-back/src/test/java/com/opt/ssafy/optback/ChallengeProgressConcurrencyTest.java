@@ -0,0 +1,119 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeContributionCache;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeLeaderboardService;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeResponseAssembler;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeService;
+import com.opt.ssafy.optback.domain.challenge.entity.Challenge;
+import com.opt.ssafy.optback.domain.challenge.entity.ChallengeMember;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeMemberRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordRepository;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRepository;
+import com.opt.ssafy.optback.global.application.S3Service;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "challenge.image.bucket.name=test"
+})
+@Import(ChallengeService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ChallengeProgressConcurrencyTest {
+
+    private static final int CONCURRENT_RECORDS = 20;
+    private static final int MEMBER_ID = 1;
+
+    @Autowired
+    private ChallengeService challengeService;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private ChallengeMemberRepository challengeMemberRepository;
+
+    @Autowired
+    private ChallengeRecordRepository challengeRecordRepository;
+
+    @MockitoBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private ChallengeLeaderboardService challengeLeaderboardService;
+
+    @MockitoBean
+    private ChallengeResponseAssembler challengeResponseAssembler;
+
+    @MockitoBean
+    private ChallengeContributionCache challengeContributionCache;
+
+    @Test
+    void 같은_멤버의_동시_기록도_누적_합계에는_최고_기록만_반영된다() throws InterruptedException {
+        // given
+        Challenge challenge = challengeRepository.save(Challenge.builder()
+                .type("TEAM")
+                .title("team")
+                .status("PROGRESS")
+                .startDate(LocalDate.now().minusDays(1))
+                .endDate(LocalDate.now().plusDays(7))
+                .currentParticipants(1)
+                .maxParticipants(10)
+                .progress(0F)
+                .progressTotal(0)
+                .exerciseCount(1000)
+                .build());
+        challengeMemberRepository.save(ChallengeMember.builder()
+                .challengeId(challenge.getId())
+                .memberId(MEMBER_ID)
+                .status("JOINED")
+                .joinAt(new Date())
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RECORDS);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_RECORDS);
+
+        // when
+        for (int i = 1; i <= CONCURRENT_RECORDS; i++) {
+            int count = i;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    challengeService.recordChallenge(MEMBER_ID, challenge.getId(), count, null, null);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(challengeRepository.findProgressTotalById(challenge.getId())).isEqualTo(CONCURRENT_RECORDS);
+        assertThat(challengeRecordRepository.findByChallengeId(challenge.getId()))
+                .singleElement()
+                .satisfies(record -> assertThat(record.getCount()).isEqualTo(CONCURRENT_RECORDS));
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeRecordIngestionQueue;
+import com.opt.ssafy.optback.domain.challenge.application.ChallengeService;
+import com.opt.ssafy.optback.domain.challenge.dto.PendingChallengeRecord;
+import com.opt.ssafy.optback.domain.challenge.repository.ChallengeRecordIngestionRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+public class ChallengeRecordIngestionQueueTest {
+    private static final String STREAM_KEY = "challenge:record:pending";
+
+    @Mock
+    private ChallengeService challengeService;
+
+    @Mock
+    private ChallengeRecordIngestionRepository challengeRecordIngestionRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ChallengeRecordIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        queue = new ChallengeRecordIngestionQueue(challengeService, challengeRecordIngestionRepository,
+                stringRedisTemplate, true, "node-b", Duration.ofDays(7), Duration.ofSeconds(30), 2, 0, 0);
+    }
+
+    @Test
+    void 생존_키가_없는_서버의_항목만_가져온다() {
+        // given
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class))).thenReturn(List.of(
+                entry("1-0", "old-host", "300"),
+                entry("2-0", "node-a", "500"),
+                entry("3-0", "node-b", "700")));
+        when(stringRedisTemplate.hasKey("challenge:record:node:old-host")).thenReturn(false);
+        when(stringRedisTemplate.hasKey("challenge:record:node:node-a")).thenReturn(true);
+
+        // when
+        queue.claimOrphans();
+        queue.claimOrphans();
+
+        // then
+        verify(valueOperations, times(2))
+                .set(eq("challenge:record:node:node-b"), anyString(), eq(Duration.ofSeconds(30)));
+        assertThat(queue.getStats().getPending()).isEqualTo(1);
+    }
+
+    @Test
+    void 재시작하면_자기_항목과_종료된_서버의_항목을_반영한다() {
+        // given
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class))).thenReturn(List.of(
+                entry("1-0", "old-host", "300"),
+                entry("2-0", "node-b", "500")));
+        when(stringRedisTemplate.hasKey("challenge:record:node:old-host")).thenReturn(false);
+
+        // when
+        queue.replay();
+
+        // then
+        assertThat(queue.getStats().getFlushedSubmissions()).isEqualTo(2);
+        assertThat(queue.getStats().getFlushedRows()).isEqualTo(1);
+        verify(streamOperations).delete(STREAM_KEY, "1-0", "2-0");
+    }
+
+    @Test
+    void 계속_실패하는_기록만_재시도_후_dead_letter로_옮긴다() {
+        // given
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class))).thenReturn(List.of(
+                entry("1-0", "node-b", "300"),
+                entry("2-0", "node-b", "500", "3")));
+        doAnswer(invocation -> {
+            List<PendingChallengeRecord> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(pending -> pending.getMemberId() == 3)) {
+                throw new IllegalStateException("poison");
+            }
+            return null;
+        }).when(challengeService).applyRecordBatch(anyList());
+
+        // when
+        queue.replay();
+        queue.flush();
+
+        // then
+        verify(streamOperations).delete(STREAM_KEY, "1-0");
+        verify(streamOperations).add(argThat(record -> "challenge:record:dead-letter".equals(record.getStream())));
+        verify(streamOperations).delete(STREAM_KEY, "2-0");
+        assertThat(queue.getStats().getDeadLettered()).isEqualTo(1);
+        assertThat(queue.getStats().getFlushedRows()).isEqualTo(1);
+        assertThat(queue.getStats().getPending()).isZero();
+    }
+
+    private MapRecord<String, Object, Object> entry(String id, String nodeId, String distance) {
+        return entry(id, nodeId, distance, "2");
+    }
+
+    private MapRecord<String, Object, Object> entry(String id, String nodeId, String distance, String memberId) {
+        Map<Object, Object> fields = Map.of("challengeId", "1", "memberId", memberId, "day",
+                LocalDate.now().toString(), "nodeId", nodeId, "distance", distance);
+        return StreamRecords.newRecord().in(STREAM_KEY).withId(RecordId.of(id)).ofMap(fields);
+    }
+}
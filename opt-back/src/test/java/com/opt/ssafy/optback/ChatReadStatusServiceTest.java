@@ -0,0 +1,135 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.domain.chat.dto.ChatReadStatusResponse;
+import com.opt.ssafy.optback.domain.chat.entity.ChatMessage;
+import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
+import com.opt.ssafy.optback.domain.chat.infrastructure.ChatBroadcaster;
+import com.opt.ssafy.optback.domain.chat.repository.ChatMessageRepository;
+import com.opt.ssafy.optback.domain.chat.repository.ChatRoomRepository;
+import com.opt.ssafy.optback.domain.chat.service.ChatReadStatusService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class ChatReadStatusServiceTest {
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatBroadcaster chatBroadcaster;
+
+    @InjectMocks
+    private ChatReadStatusService chatReadStatusService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void 읽음_처리는_메시지를_한_번에_갱신하고_읽음_위치만_전송한다() {
+        // given
+        when(chatRoomRepository.findById("room")).thenReturn(Optional.of(
+                ChatRoom.builder().id("room").participants(List.of(1, 2)).build()));
+
+        // when
+        ChatReadStatusResponse readStatus = chatReadStatusService.markAllAsRead("room", 2);
+
+        // then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), updates.capture(), eq(ChatMessage.class));
+        assertThat(updates.getAllValues().get(0).getUpdateObject().get("$addToSet", Document.class))
+                .containsEntry("readByMembers", 2);
+
+        ArgumentCaptor<Update> roomUpdate = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), roomUpdate.capture(), eq(ChatRoom.class));
+        assertThat(roomUpdate.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("unreadCounts.2", 0)
+                .containsEntry("lastReadAt.2", readStatus.getLastReadAt());
+
+        verify(chatBroadcaster).broadcast("/topic/chat-room/room/read-status", readStatus);
+        assertThat(readStatus.getMemberId()).isEqualTo(2);
+    }
+
+    @Test
+    void 새_메시지는_받는_사람의_읽지_않은_수를_올리고_마지막_메시지를_갱신한다() {
+        // given
+        ChatMessage message = ChatMessage.builder().roomId("room").senderId(1).content("안녕하세요")
+                .createdAt(LocalDateTime.now()).build();
+
+        // when
+        chatReadStatusService.onMessageSaved(message, List.of(1, 2));
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateFirst(query.capture(), update.capture(), eq(ChatRoom.class));
+        Document unread = update.getAllValues().get(0).getUpdateObject();
+        assertThat(unread.get("$inc", Document.class)).containsOnlyKeys("unreadCounts.2");
+        assertThat(unread).doesNotContainKey("$set");
+        assertThat(query.getAllValues().get(0).getQueryObject().toString()).contains("lastReadAt.2");
+
+        Document summary = update.getAllValues().get(1).getUpdateObject();
+        assertThat(summary).doesNotContainKey("$inc");
+        assertThat(summary.get("$set", Document.class))
+                .containsEntry("lastMessage", "안녕하세요")
+                .containsEntry("lastMessageAt", message.getCreatedAt());
+    }
+
+    @Test
+    void 마지막_메시지는_더_최신_메시지가_반영되지_않았을_때만_갱신한다() {
+        // given
+        ChatMessage message = ChatMessage.builder().roomId("room").senderId(1).content("안녕하세요")
+                .createdAt(LocalDateTime.now()).build();
+
+        // when
+        chatReadStatusService.onMessageSaved(message, List.of(1));
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(1)).updateFirst(query.capture(), any(Update.class), eq(ChatRoom.class));
+        String summaryQuery = query.getValue().getQueryObject().toString();
+        assertThat(summaryQuery).contains("lastMessageAt").contains("$lt");
+    }
+
+    @Test
+    void 메시지가_없는_채팅방도_요약을_명시해_한_번만_초기화한다() {
+        // given
+        when(chatRoomRepository.findByUnreadCountsExistsOrLastMessageAtExists(false, false)).thenReturn(List.of(
+                ChatRoom.builder().id("room").participants(List.of(1, 2)).build()));
+        when(chatMessageRepository.findTopByRoomIdOrderByCreatedAtDesc("room")).thenReturn(Optional.empty());
+
+        // when
+        chatReadStatusService.backfillRoomSummaries();
+
+        // then
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(ChatRoom.class));
+        Document set = update.getValue().getUpdateObject().get("$set", Document.class);
+        assertThat(set).containsKey("lastMessageAt").containsKey("unreadCounts");
+        assertThat(set.get("lastMessageAt")).isNull();
+    }
+}
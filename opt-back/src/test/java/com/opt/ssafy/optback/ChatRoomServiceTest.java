@@ -0,0 +1,86 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.UpdateResult;
+import com.opt.ssafy.optback.domain.auth.application.UserDetailsServiceImpl;
+import com.opt.ssafy.optback.domain.chat.entity.ChatRoom;
+import com.opt.ssafy.optback.domain.chat.exception.ChatRoomException;
+import com.opt.ssafy.optback.domain.chat.repository.ChatRoomRepository;
+import com.opt.ssafy.optback.domain.chat.service.ChatRoomService;
+import com.opt.ssafy.optback.domain.member.entity.Member;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class ChatRoomServiceTest {
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private Member member;
+
+    @InjectMocks
+    private ChatRoomService chatRoomService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(userDetailsService.getMemberByContextHolder()).thenReturn(member);
+        when(member.getId()).thenReturn(2);
+    }
+
+    @Test
+    void 채팅방을_나가면_내_참여자와_읽음_정보만_지우고_문서를_다시_저장하지_않는다() {
+        // given
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ChatRoom.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // when
+        chatRoomService.leaveChatRoom("room");
+
+        // then
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(ChatRoom.class));
+        Document updateObject = update.getValue().getUpdateObject();
+        assertThat(updateObject.get("$pull", Document.class)).containsEntry("participants", 2);
+        assertThat(updateObject.get("$unset", Document.class)).containsOnlyKeys("unreadCounts.2", "lastReadAt.2");
+        assertThat(updateObject).doesNotContainKey("$set");
+
+        // 남은 참여자가 없을 때만 삭제
+        ArgumentCaptor<Query> remove = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(remove.capture(), eq(ChatRoom.class));
+        assertThat(remove.getValue().getQueryObject().toString()).contains("participants").contains("$size");
+        verify(chatRoomRepository, never()).save(any());
+    }
+
+    @Test
+    void 없는_채팅방은_나갈_수_없다() {
+        // given
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ChatRoom.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // when, then
+        assertThatThrownBy(() -> chatRoomService.leaveChatRoom("room")).isInstanceOf(ChatRoomException.class);
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ChatRoom.class));
+    }
+}
@@ -0,0 +1,53 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.config.FullTextIndexStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class FullTextIndexStatusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private FullTextIndexStatus fullTextIndexStatus;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        fullTextIndexStatus = new FullTextIndexStatus(jdbcTemplate);
+        ReflectionTestUtils.setField(fullTextIndexStatus, "enabled", true);
+    }
+
+    @Test
+    void 확인되기_전에는_LIKE로_검색한다() {
+        // then
+        assertThat(fullTextIndexStatus.isMemberNameIndexed()).isFalse();
+        assertThat(fullTextIndexStatus.isGymAddressIndexed()).isFalse();
+    }
+
+    @Test
+    void 있는_것이_확인된_인덱스만_MATCH로_검색한다() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("member"), eq("ft_member_name")))
+                .thenReturn(1);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("gym"), eq("ft_gym_address")))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        fullTextIndexStatus.refresh();
+
+        // then
+        assertThat(fullTextIndexStatus.isMemberNameIndexed()).isTrue();
+        assertThat(fullTextIndexStatus.isGymAddressIndexed()).isFalse();
+    }
+}
@@ -0,0 +1,91 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.domain.gym.application.GymLocationIndex;
+import com.opt.ssafy.optback.domain.gym.dto.GymDistance;
+import com.opt.ssafy.optback.domain.gym.repository.GymRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+public class GymLocationIndexTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Mock
+    private GymRepository gymRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private GymLocationIndex gymLocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void 적재_전_동시_요청은_한_번의_적재를_기다린다() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1, 37.5012, 127.0396, "테스트짐", "서울 강남구"});
+        when(gymRepository.findAllLocations()).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return rows;
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<List<GymDistance>>> results = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            results.add(executor.submit(() -> gymLocationIndex.findNearby(37.5, 127.04, 5.0, null)));
+        }
+        loadStarted.await(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        // then
+        for (Future<List<GymDistance>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).extracting(GymDistance::getGymId).containsExactly(1);
+        }
+        executor.shutdown();
+        verify(gymRepository, times(1)).findAllLocations();
+    }
+
+    @Test
+    void 적재에_실패하면_빈_결과를_주고_다음_요청에서_다시_적재한다() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1, 37.5012, 127.0396, "테스트짐", "서울 강남구"});
+        when(gymRepository.findAllLocations())
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(rows);
+
+        // when
+        List<GymDistance> failed = gymLocationIndex.findNearby(37.5, 127.04, 5.0, null);
+        List<GymDistance> retried = gymLocationIndex.findNearby(37.5, 127.04, 5.0, null);
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(retried).extracting(GymDistance::getGymId).containsExactly(1);
+    }
+}
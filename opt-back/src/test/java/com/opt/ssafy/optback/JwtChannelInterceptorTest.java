@@ -0,0 +1,91 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.opt.ssafy.optback.config.JwtChannelInterceptor;
+import com.opt.ssafy.optback.domain.auth.application.JwtProvider;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class JwtChannelInterceptorTest {
+
+    private static final String SECRET_KEY = Encoders.BASE64.encode(
+            "opt-test-secret-key-for-stomp-interceptor".getBytes(StandardCharsets.UTF_8));
+
+    private JwtProvider jwtProvider;
+    private JwtChannelInterceptor jwtChannelInterceptor;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = spy(new JwtProvider(SECRET_KEY));
+        jwtChannelInterceptor = new JwtChannelInterceptor(jwtProvider);
+        token = jwtProvider.generateAccessToken(new UsernamePasswordAuthenticationToken("1", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void CONNECT에서_한_번만_검증하고_이후_프레임은_세션의_인증_정보를_쓴다() {
+        // given
+        Map<String, Object> session = new HashMap<>();
+        jwtChannelInterceptor.preSend(frame(StompCommand.CONNECT, session, token), null);
+
+        // when
+        Message<?> subscribe = jwtChannelInterceptor.preSend(frame(StompCommand.SUBSCRIBE, session, null), null);
+        Message<?> send = jwtChannelInterceptor.preSend(frame(StompCommand.SEND, session, null), null);
+
+        // then
+        verify(jwtProvider, times(1)).getVerifiedClaims(anyString());
+        assertThat(StompHeaderAccessor.wrap(subscribe).getUser().getName()).isEqualTo("1");
+        assertThat(StompHeaderAccessor.wrap(send).getUser().getName()).isEqualTo("1");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("1");
+    }
+
+    @Test
+    void 세션의_토큰이_만료되면_프레임의_토큰으로_다시_검증한다() {
+        // given
+        Map<String, Object> session = new HashMap<>();
+        jwtChannelInterceptor.preSend(frame(StompCommand.CONNECT, session, token), null);
+        session.put("jwtExpiresAt", System.currentTimeMillis() - 1);
+
+        // when & then
+        assertThatThrownBy(() -> jwtChannelInterceptor.preSend(frame(StompCommand.SEND, session, null), null))
+                .isInstanceOf(RuntimeException.class);
+        jwtChannelInterceptor.preSend(frame(StompCommand.SEND, session, token), null);
+        verify(jwtProvider, times(2)).getVerifiedClaims(anyString());
+        assertThat((Long) session.get("jwtExpiresAt")).isGreaterThan(System.currentTimeMillis());
+    }
+
+    private Message<?> frame(StompCommand command, Map<String, Object> session, String jwt) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionAttributes(session);
+        if (jwt != null) {
+            accessor.setNativeHeader("Authorization", "Bearer " + jwt);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
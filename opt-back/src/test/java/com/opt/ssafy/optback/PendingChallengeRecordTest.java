@@ -0,0 +1,44 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opt.ssafy.optback.domain.challenge.dto.PendingChallengeRecord;
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class PendingChallengeRecordTest {
+
+    @Test
+    void 이미_반영된_항목만_빼고_남은_항목으로_다시_병합한다() {
+        // given
+        PendingChallengeRecord pending = new PendingChallengeRecord(1, 2, LocalDate.now())
+                .add(null, null, 300, "1-0")
+                .add(null, null, 500, "2-0")
+                .add(null, null, 200, "3-0");
+
+        // when
+        PendingChallengeRecord remaining = pending.without(Set.of("1-0"));
+
+        // then
+        assertThat(remaining.getDistance()).isEqualTo(700);
+        assertThat(remaining.getStreamIds()).containsExactly("2-0", "3-0");
+        assertThat(remaining.getSubmissions()).isEqualTo(2);
+    }
+
+    @Test
+    void 최고_기록은_남은_항목_중에서_다시_계산한다() {
+        // given
+        PendingChallengeRecord pending = new PendingChallengeRecord(1, 2, LocalDate.now())
+                .add(50, null, null, "1-0")
+                .add(30, null, null, "2-0");
+
+        // when
+        PendingChallengeRecord remaining = pending.without(Set.of("1-0"));
+        PendingChallengeRecord nothingLeft = pending.without(Set.of("1-0", "2-0"));
+
+        // then
+        assertThat(remaining.getCount()).isEqualTo(30);
+        assertThat(nothingLeft.isEmpty()).isTrue();
+    }
+}
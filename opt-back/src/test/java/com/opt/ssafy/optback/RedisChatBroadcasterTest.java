@@ -0,0 +1,103 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastEnvelope;
+import com.opt.ssafy.optback.domain.chat.dto.ChatBroadcastStatsResponse;
+import com.opt.ssafy.optback.domain.chat.infrastructure.RedisChatBroadcaster;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+public class RedisChatBroadcasterTest {
+    @Mock
+    private MessageChannel brokerChannel;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisChatBroadcaster redisChatBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(brokerChannel.send(any())).thenReturn(true);
+        SimpMessagingTemplate simpMessagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        simpMessagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        redisChatBroadcaster = new RedisChatBroadcaster(simpMessagingTemplate, stringRedisTemplate, objectMapper);
+    }
+
+    @Test
+    void 이_서버_구독자에게_전달하고_다른_서버로_발행한다() throws Exception {
+        // when
+        redisChatBroadcaster.broadcast("/topic/chat-room/1", Map.of("content", "안녕하세요"));
+
+        // then
+        Message<?> delivered = deliveredMessage();
+        assertThat(SimpMessageHeaderAccessor.getDestination(delivered.getHeaders())).isEqualTo("/topic/chat-room/1");
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"content\":\"안녕하세요\"}");
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq(RedisChatBroadcaster.CHANNEL), published.capture());
+        ChatBroadcastEnvelope envelope = objectMapper.readValue(published.getValue(), ChatBroadcastEnvelope.class);
+        assertThat(envelope.getDestination()).isEqualTo("/topic/chat-room/1");
+        assertThat(envelope.getBody()).isEqualTo("{\"content\":\"안녕하세요\"}");
+
+        ChatBroadcastStatsResponse stats = redisChatBroadcaster.getStats();
+        assertThat(stats.getPublished()).isEqualTo(1);
+        assertThat(stats.getLocalDelivered()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_서버의_메시지는_전달하고_자신이_발행한_메시지는_무시한다() throws Exception {
+        // given
+        String nodeId = redisChatBroadcaster.getStats().getNodeId();
+        ChatBroadcastEnvelope remote = new ChatBroadcastEnvelope("other-node", "/topic/chat-room/1",
+                "application/json", "{\"content\":\"원격\"}");
+        ChatBroadcastEnvelope own = new ChatBroadcastEnvelope(nodeId, "/topic/chat-room/1",
+                "application/json", "{\"content\":\"로컬\"}");
+
+        // when
+        redisChatBroadcaster.onMessage(redisMessage(own), null);
+        redisChatBroadcaster.onMessage(redisMessage(remote), null);
+
+        // then
+        Message<?> delivered = deliveredMessage();
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"content\":\"원격\"}");
+        assertThat(redisChatBroadcaster.getStats().getRemoteDelivered()).isEqualTo(1);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private Message<?> deliveredMessage() {
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private DefaultMessage redisMessage(ChatBroadcastEnvelope envelope) throws Exception {
+        return new DefaultMessage(RedisChatBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(envelope));
+    }
+}
@@ -0,0 +1,156 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import com.opt.ssafy.optback.domain.gym.event.GymChangedEvent;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerCardRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerCardProjector;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerCardService;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerDetailResponseAssembler;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerSearchCache;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
+import com.opt.ssafy.optback.domain.trainer_review.service.TrainerRatingStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@TrainerJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TrainerCardProjector.class, TrainerCardService.class, TrainerDetailResponseAssembler.class,
+        TrainerRatingStatsService.class})
+public class TrainerCardProjectionTest {
+
+    private static final int TRAINER_COUNT = 10;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TrainerCardRepository trainerCardRepository;
+
+    @Autowired
+    private TrainerCardProjector trainerCardProjector;
+
+    @Autowired
+    private TrainerCardService trainerCardService;
+
+    @MockitoBean
+    private TrainerSearchCache trainerSearchCache;
+
+    private final List<Integer> trainerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Gym gym = TrainerFixture.insertGym(em, 1, "테스트짐");
+        for (int i = 0; i < TRAINER_COUNT; i++) {
+            int trainerId = TrainerFixture.persistTrainer(em, i, gym);
+            TrainerFixture.persistSpecialties(em, trainerId, "다이어트");
+            TrainerFixture.persistMenu(em, trainerId);
+            trainerIds.add(trainerId);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 변경_이벤트를_모아_카드를_만들고_목록은_카드만_읽는다() {
+        // given
+        trainerIds.forEach(trainerId -> trainerCardProjector.onTrainerChanged(new TrainerChangedEvent(trainerId)));
+        trainerCardProjector.flush();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = TrainerFixture.clearedStatistics(entityManagerFactory);
+
+        // when
+        List<TrainerDetailResponse> responses = trainerCardService.toResponses(trainerIds);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(trainerCardRepository.count()).isEqualTo(TRAINER_COUNT);
+        assertThat(responses).extracting(TrainerDetailResponse::getTrainerId).containsExactlyElementsOf(trainerIds);
+        TrainerDetailResponse first = responses.get(0);
+        assertThat(first.getTrainerNickname()).startsWith("trainer");
+        assertThat(first.getGymName()).isEqualTo("테스트짐");
+        assertThat(first.getKeywords()).containsExactly("다이어트");
+        assertThat(first.getMenus()).extracting("name").containsExactly("PT 10회");
+        verify(trainerSearchCache).invalidateAll();
+    }
+
+    @Test
+    void 카드가_없는_트레이너는_원본에서_조립하고_카드_생성을_요청한다() {
+        // given
+        trainerCardRepository.deleteAllInBatch();
+
+        // when
+        List<TrainerDetailResponse> responses = trainerCardService.toResponses(trainerIds);
+        trainerCardProjector.flush();
+        em.flush();
+
+        // then
+        assertThat(responses).hasSize(TRAINER_COUNT);
+        assertThat(responses).allSatisfy(response -> assertThat(response.getKeywords()).containsExactly("다이어트"));
+        assertThat(trainerCardRepository.count()).isEqualTo(TRAINER_COUNT);
+    }
+
+    @Test
+    void 헬스장이_바뀌면_소속_트레이너의_카드를_다시_만든다() {
+        // given
+        trainerIds.forEach(trainerId -> trainerCardProjector.onTrainerChanged(new TrainerChangedEvent(trainerId)));
+        trainerCardProjector.flush();
+        em.getEntityManager().createNativeQuery("UPDATE gym SET gym_name = '새이름짐' WHERE id = 1").executeUpdate();
+        em.flush();
+        em.clear();
+
+        // when
+        trainerCardProjector.onGymChanged(new GymChangedEvent(List.of(1)));
+        trainerCardProjector.flush();
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(trainerCardService.toResponses(trainerIds))
+                .allSatisfy(response -> assertThat(response.getGymName()).isEqualTo("새이름짐"));
+    }
+
+    @Test
+    void 반영하지_못한_변경이_남은_카드는_주기_점검에서_다시_만든다() {
+        // given
+        trainerIds.forEach(trainerId -> trainerCardProjector.onTrainerChanged(new TrainerChangedEvent(trainerId)));
+        trainerCardProjector.flush();
+        em.getEntityManager().createNativeQuery("UPDATE trainer_detail SET intro = '바뀐 소개' WHERE trainer_id = ?")
+                .setParameter(1, trainerIds.get(0))
+                .executeUpdate();
+        // 변경 트랜잭션에서 표시만 남기고, 모아 둔 id는 서버 종료로 잃은 상황
+        trainerCardProjector.markStale(new TrainerChangedEvent(trainerIds.get(0)));
+        em.flush();
+        em.clear();
+        assertThat(trainerCardRepository.findStaleTrainerIds()).containsExactly(trainerIds.get(0));
+
+        // when
+        trainerCardProjector.backfill();
+        trainerCardProjector.flush();
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(trainerCardRepository.findStaleTrainerIds()).isEmpty();
+        assertThat(trainerCardService.toResponses(List.of(trainerIds.get(0))).get(0).getIntro())
+                .isEqualTo("바뀐 소개");
+    }
+}
@@ -0,0 +1,99 @@
+package com.opt.ssafy.optback;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerCardRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerCardProjector;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerDetailResponseAssembler;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerSearchCache;
+import com.opt.ssafy.optback.domain.trainer_detail.event.TrainerChangedEvent;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class TrainerCardProjectorTest {
+
+    @Mock
+    private TrainerDetailRepository trainerDetailRepository;
+
+    @Mock
+    private TrainerCardRepository trainerCardRepository;
+
+    @Mock
+    private TrainerDetailResponseAssembler trainerDetailResponseAssembler;
+
+    @Mock
+    private TrainerSearchCache trainerSearchCache;
+
+    private TrainerCardProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        projector = new TrainerCardProjector(trainerDetailRepository, trainerCardRepository,
+                trainerDetailResponseAssembler, trainerSearchCache,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new ObjectMapper());
+        ReflectionTestUtils.setField(projector, "maxAttempts", 2);
+        // 2번 트레이너는 카드를 만들 때마다 실패
+        when(trainerDetailRepository.findByTrainerIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> trainerIds = invocation.getArgument(0);
+            if (trainerIds.contains(2)) {
+                throw new IllegalStateException("깨진 트레이너 데이터");
+            }
+            return List.of();
+        });
+        when(trainerDetailResponseAssembler.toResponses(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void 실패한_트레이너만_다시_시도하고_반영된_카드가_있으면_검색_캐시를_비운다() {
+        // given
+        projector.enqueue(List.of(1, 2));
+
+        // when
+        projector.flush();
+
+        // then
+        verify(trainerDetailRepository).findByTrainerIdIn(List.of(1));
+        verify(trainerDetailRepository).findByTrainerIdIn(List.of(2));
+        verify(trainerSearchCache).invalidateAll();
+    }
+
+    @Test
+    void 계속_실패하는_트레이너는_최대_횟수_뒤_새_변경이_올_때까지_다시_시도하지_않는다() {
+        // given
+        when(trainerCardRepository.findStaleTrainerIds()).thenReturn(List.of(2));
+        projector.enqueue(List.of(2));
+
+        // when
+        projector.flush();
+        projector.flush();
+        projector.backfill();
+        projector.flush();
+
+        // then
+        verify(trainerDetailRepository, times(2)).findByTrainerIdIn(List.of(2));
+        verify(trainerSearchCache, never()).invalidateAll();
+
+        // when
+        projector.onTrainerChanged(new TrainerChangedEvent(2));
+        projector.flush();
+
+        // then
+        verify(trainerDetailRepository, times(3)).findByTrainerIdIn(List.of(2));
+    }
+}
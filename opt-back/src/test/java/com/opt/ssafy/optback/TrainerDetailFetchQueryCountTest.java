@@ -0,0 +1,84 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Specification.TrainerSpecification;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchRequest;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@TrainerJpaTest
+public class TrainerDetailFetchQueryCountTest {
+
+    private static final int TRAINER_COUNT = 20;
+    private static final int GYM_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TrainerDetailRepository trainerDetailRepository;
+
+    private final List<Integer> trainerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= GYM_COUNT; i++) {
+            TrainerFixture.insertGym(em, i, "테스트짐" + i);
+        }
+        for (int i = 0; i < TRAINER_COUNT; i++) {
+            trainerIds.add(TrainerFixture.persistTrainer(em, i, em.find(Gym.class, i % GYM_COUNT + 1)));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 트레이너_목록은_id_페이지와_count_쿼리만_실행하고_회원과_헬스장은_읽지_않는다() {
+        // given
+        Statistics statistics = TrainerFixture.clearedStatistics(entityManagerFactory);
+
+        // when
+        Page<TrainerDetail> page = trainerDetailRepository.findBy(
+                TrainerSpecification.filterByCriteria(new TrainerSearchRequest())
+                        .and(TrainerSpecification.orderBy("review", null, null, 0L)),
+                query -> query.page(PageRequest.of(0, 10)));
+        List<Integer> pageIds = page.map(TrainerDetail::getTrainerId).getContent();
+
+        // then
+        assertThat(pageIds).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(TRAINER_COUNT);
+        assertThat(page.getContent()).noneMatch(trainer -> Hibernate.isInitialized(trainer.getMember()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 트레이너_상세는_쿼리_한_번으로_회원과_헬스장을_함께_조회한다() {
+        // given
+        Statistics statistics = TrainerFixture.clearedStatistics(entityManagerFactory);
+
+        // when
+        TrainerDetail trainer = trainerDetailRepository.findWithMemberAndGymByTrainerId(trainerIds.get(0))
+                .orElseThrow();
+        String card = trainer.getMember().getNickname() + trainer.getGym().getFullAddress();
+
+        // then
+        assertThat(card).isEqualTo("trainer0서울 강남구");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
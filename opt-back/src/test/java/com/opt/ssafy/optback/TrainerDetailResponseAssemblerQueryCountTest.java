@@ -0,0 +1,82 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import com.opt.ssafy.optback.domain.trainer_detail.Repository.TrainerDetailRepository;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerDetailResponseAssembler;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import com.opt.ssafy.optback.domain.trainer_review.service.TrainerRatingStatsService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@TrainerJpaTest
+@Import({TrainerDetailResponseAssembler.class, TrainerRatingStatsService.class})
+public class TrainerDetailResponseAssemblerQueryCountTest {
+
+    private static final int TRAINER_COUNT = 50;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TrainerDetailRepository trainerDetailRepository;
+
+    @Autowired
+    private TrainerDetailResponseAssembler trainerDetailResponseAssembler;
+
+    @Test
+    void 트레이너_50명의_응답을_쿼리_3번으로_만든다() {
+        // given
+        Gym gym = TrainerFixture.insertGym(em, 1, "테스트짐");
+
+        List<Integer> trainerIds = new ArrayList<>();
+        for (int i = 0; i < TRAINER_COUNT; i++) {
+            int trainerId = TrainerFixture.persistTrainer(em, i, gym);
+            TrainerFixture.persistSpecialties(em, trainerId, "다이어트", "재활");
+            TrainerFixture.persistMenu(em, trainerId);
+            em.getEntityManager().createNativeQuery("""
+                            INSERT INTO trainer_rating_stats
+                                (trainer_id, review_count, rate_sum, average_rating, bayesian_score)
+                            VALUES (?, ?, ?, ?, ?)
+                            """)
+                    .setParameter(1, trainerId)
+                    .setParameter(2, i)
+                    .setParameter(3, i * 4)
+                    .setParameter(4, i == 0 ? 0.0 : 4.0)
+                    .setParameter(5, 4.0)
+                    .executeUpdate();
+            trainerIds.add(trainerId);
+        }
+        em.flush();
+        em.clear();
+
+        List<TrainerDetail> trainers = trainerDetailRepository.findByTrainerIdIn(trainerIds);
+        Statistics statistics = TrainerFixture.clearedStatistics(entityManagerFactory);
+
+        // when
+        List<TrainerDetailResponse> responses = trainerDetailResponseAssembler.toResponses(trainers);
+
+        // then
+        assertThat(responses).hasSize(TRAINER_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        TrainerDetailResponse last = responses.stream()
+                .filter(response -> response.getTrainerId() == trainerIds.get(TRAINER_COUNT - 1))
+                .findFirst()
+                .orElseThrow();
+        assertThat(last.getReviewCount()).isEqualTo(TRAINER_COUNT - 1);
+        assertThat(last.getKeywords()).containsExactlyInAnyOrder("다이어트", "재활");
+        assertThat(last.getMenus()).hasSize(1);
+    }
+
+}
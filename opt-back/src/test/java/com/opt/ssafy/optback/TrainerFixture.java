@@ -0,0 +1,65 @@
+package com.opt.ssafy.optback;
+
+import com.opt.ssafy.optback.domain.gym.entity.Gym;
+import com.opt.ssafy.optback.domain.member.entity.Member;
+import com.opt.ssafy.optback.domain.member.entity.Role;
+import com.opt.ssafy.optback.domain.member.entity.TrainerSpecialty;
+import com.opt.ssafy.optback.domain.menu.entity.Menu;
+import com.opt.ssafy.optback.domain.trainer_detail.entity.TrainerDetail;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+// 트레이너 조회 테스트 공통 데이터 (헬스장, 트레이너 회원/상세/전문 분야/메뉴)
+final class TrainerFixture {
+
+    private TrainerFixture() {
+    }
+
+    // Gym 엔티티에 생성자/빌더가 없어 native INSERT로 넣는다
+    static Gym insertGym(TestEntityManager em, int id, String gymName) {
+        em.getEntityManager().createNativeQuery("""
+                        INSERT INTO gym (id, phone_number, full_address, road_address, gym_name, latitude, longitude)
+                        VALUES (?, '02-000-0000', '서울 강남구', '서울 강남구 테헤란로', ?, 37.5, 127.03)
+                        """)
+                .setParameter(1, id)
+                .setParameter(2, gymName)
+                .executeUpdate();
+        return em.find(Gym.class, id);
+    }
+
+    // 트레이너 i번: 닉네임 trainer{i}, 경력 i % 10년
+    static int persistTrainer(TestEntityManager em, int index, Gym gym) {
+        Member member = em.persist(Member.builder()
+                .name("트레이너" + index)
+                .nickname("trainer" + index)
+                .email("trainer" + index + "@opt.com")
+                .role(Role.ROLE_TRAINER)
+                .build());
+        em.persist(TrainerDetail.builder()
+                .trainerId(member.getId())
+                .member(member)
+                .gym(gym)
+                .intro("소개")
+                .experienceYears(index % 10)
+                .build());
+        return member.getId();
+    }
+
+    static void persistSpecialties(TestEntityManager em, int trainerId, String... specialties) {
+        for (String specialty : specialties) {
+            em.persist(new TrainerSpecialty(trainerId, specialty));
+        }
+    }
+
+    static void persistMenu(TestEntityManager em, int trainerId) {
+        em.persist(Menu.builder().name("PT 10회").trainerId(trainerId).price(500000).totalSessions(10).build());
+    }
+
+    static Statistics clearedStatistics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,137 @@
+package com.opt.ssafy.optback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.opt.ssafy.optback.domain.gym.event.GymChangedEvent;
+import com.opt.ssafy.optback.domain.trainer_detail.Service.TrainerSearchCache;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerDetailResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchCacheStatsResponse;
+import com.opt.ssafy.optback.domain.trainer_detail.dto.TrainerSearchRequest;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+public class TrainerSearchCacheTest {
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TrainerSearchCache trainerSearchCache;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Pageable pageable = PageRequest.of(0, 10);
+    private final Supplier<Page<TrainerDetailResponse>> loader = () -> {
+        loads.incrementAndGet();
+        return Page.empty(pageable);
+    };
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        trainerSearchCache = new TrainerSearchCache(stringRedisTemplate, true, 30_000L, 100, false, 1_000L);
+    }
+
+    @Test
+    void 같은_geohash_칸의_같은_조건이면_캐시를_공유한다() {
+        // given
+        TrainerSearchRequest first = request(" 헬스 ", 37.5012, 127.0396);
+        TrainerSearchRequest sameCell = request("헬스", 37.5015, 127.0399);
+        TrainerSearchRequest otherCell = request("헬스", 37.5665, 126.9780);
+
+        // when
+        trainerSearchCache.get("search", first, pageable, loader);
+        trainerSearchCache.get("search", sameCell, pageable, loader);
+        trainerSearchCache.get("search", otherCell, pageable, loader);
+
+        // then
+        TrainerSearchCacheStatsResponse stats = trainerSearchCache.getStats();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void 무효화하면_다시_조회하고_Redis_세대를_올린다() {
+        // given
+        trainerSearchCache = new TrainerSearchCache(stringRedisTemplate, true, 30_000L, 100, true, 1_000L);
+        TrainerSearchRequest request = request("헬스", 37.5012, 127.0396);
+        trainerSearchCache.get("search", request, pageable, loader);
+
+        // when
+        trainerSearchCache.invalidateAll();
+        trainerSearchCache.get("search", request, pageable, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(trainerSearchCache.getStats().getInvalidations()).isEqualTo(1);
+        verify(valueOperations).increment("trainer-search-cache:generation");
+    }
+
+    @Test
+    void Redis_세대는_갱신_주기_동안_한_번만_읽는다() {
+        // given
+        trainerSearchCache = new TrainerSearchCache(stringRedisTemplate, true, 30_000L, 100, true, 60_000L);
+        when(valueOperations.get("trainer-search-cache:generation")).thenReturn("3");
+        TrainerSearchRequest request = request("헬스", 37.5012, 127.0396);
+
+        // when
+        trainerSearchCache.get("search", request, pageable, loader);
+        trainerSearchCache.get("search", request, pageable, loader);
+        trainerSearchCache.get("search", request, pageable, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations, times(1)).get("trainer-search-cache:generation");
+    }
+
+    @Test
+    void 헬스장이_바뀌면_전체_무효화한다() {
+        // given
+        TrainerSearchRequest request = request("헬스", 37.5012, 127.0396);
+        trainerSearchCache.get("search", request, pageable, loader);
+
+        // when
+        trainerSearchCache.onGymChanged(new GymChangedEvent(List.of(1)));
+        trainerSearchCache.get("search", request, pageable, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_항목을_제거해_크기를_유지한다() {
+        // given
+        trainerSearchCache = new TrainerSearchCache(stringRedisTemplate, true, 30_000L, 2, false, 1_000L);
+
+        // when
+        trainerSearchCache.get("search", request("헬스", 37.5012, 127.0396), pageable, loader);
+        trainerSearchCache.get("search", request("필라테스", 37.5012, 127.0396), pageable, loader);
+        trainerSearchCache.get("search", request("요가", 37.5012, 127.0396), pageable, loader);
+
+        // then
+        TrainerSearchCacheStatsResponse stats = trainerSearchCache.getStats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+    }
+
+    private TrainerSearchRequest request(String name, double latitude, double longitude) {
+        return new TrainerSearchRequest(BigDecimal.valueOf(latitude), BigDecimal.valueOf(longitude), null, name,
+                null, List.of(), "distance", null, null);
+    }
+}